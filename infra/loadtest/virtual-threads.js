@@ -0,0 +1,48 @@
+// 기본(플랫폼 스레드) / virtual 프로필 처리량 비교용 k6 스크립트
+// k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> infra/loadtest/virtual-threads.js
+// 두 프로필을 같은 조건으로 실행한 뒤 http_reqs(rate), http_req_duration(p95, p99), http_req_failed 비교
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+
+export const options = {
+    scenarios: {
+        concurrent_clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: __ENV.DURATION || '2m', target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const params = {
+    headers: { Authorization: `Bearer ${TOKEN}` },
+    timeout: '10s',
+};
+
+export function setup() {
+    if (!TOKEN) {
+        throw new Error('TOKEN 환경 변수가 필요합니다.');
+    }
+}
+
+export default function () {
+    // DB 조회 (커넥션 풀 대기 포함)
+    const tasks = http.get(`${BASE_URL}/api/tasks?size=20`, Object.assign({ tags: { name: 'tasks' } }, params));
+    check(tasks, { 'tasks 200': (r) => r.status === 200 });
+
+    // Redis 조회
+    const unread = http.get(`${BASE_URL}/api/notifications/unread-count`, Object.assign({ tags: { name: 'unread-count' } }, params));
+    check(unread, { 'unread-count 200': (r) => r.status === 200 });
+}
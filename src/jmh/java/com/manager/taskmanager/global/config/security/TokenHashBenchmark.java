@@ -0,0 +1,48 @@
+package com.manager.taskmanager.global.config.security;
+
+import com.manager.taskmanager.member.entity.Position;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+// 기존 방식(매번 getInstance + String.format)과 현재 tokenToHash 비교 / gc.alloc.rate.norm 으로 요청당 할당량 확인
+// virtualThreads : false 는 스레드별 MessageDigest 재사용, true 는 원본 복제 (virtual 프로필)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TokenHashBenchmark {
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil("gisung-project-taskmanagersystem-jwt-secret-key", 3600000L, 604800000L, virtualThreads);
+        accessToken = jwtTokenUtil.generateAccessToken(
+                new JwtPayloadDto(1L, "HR", "emp-0001", "ROLE_MEMBER", Position.STAFF));
+    }
+
+    @Benchmark
+    public String legacyTokenToHash() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+        byte[] hashBytes = digest.digest(accessToken.getBytes());
+        StringBuilder hexString = new StringBuilder();
+
+        for (byte b : hashBytes) {
+            hexString.append(String.format("%02x", b));
+        }
+
+        return hexString.toString();
+    }
+
+    @Benchmark
+    public String tokenToHash() {
+        return jwtTokenUtil.tokenToHash(accessToken);
+    }
+}
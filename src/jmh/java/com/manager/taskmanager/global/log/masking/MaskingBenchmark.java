@@ -0,0 +1,96 @@
+package com.manager.taskmanager.global.log.masking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.manager.taskmanager.auth.dto.LoginRequestDto;
+import com.manager.taskmanager.auth.dto.TokenDto;
+import com.manager.taskmanager.global.log.dto.LogEvent;
+import com.manager.taskmanager.member.dto.MemberRegisterDto;
+import com.manager.taskmanager.member.dto.MemberUpdateDto;
+import com.manager.taskmanager.member.dto.PasswordUpdateDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// 기존 instanceof 분기 + DTO 복사 방식과 @Masked 직렬화 방식 비교 (로그 이벤트 1건 직렬화 기준)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MaskingBenchmark {
+
+    private ObjectMapper plainObjectMapper;
+    private ObjectMapper maskingObjectMapper;
+    private Object[] args;
+    private Object result;
+
+    @Setup
+    public void setUp() {
+        plainObjectMapper = new ObjectMapper();
+        maskingObjectMapper = new ObjectMapper()
+                .registerModule(new SimpleModule().setSerializerModifier(new MaskingSerializerModifier()));
+
+        args = new Object[]{new MemberRegisterDto("EMP0001", "password", "김아무개",
+                "email@email.com", "01012341234", "INTERN", 1L)};
+        result = new TokenDto("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJFTVAwMDAxIn0.signature",
+                "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJFTVAwMDAxIn0.refresh");
+    }
+
+    @Benchmark
+    public String legacyMaskingChain() throws JsonProcessingException {
+        Object[] maskingArgs = Arrays.stream(args)
+                .map(this::makeMaskingObject)
+                .toArray();
+
+        LogEvent logEvent = LogEvent.success("회원가입", "MemberService", "register",
+                "GUEST", maskingArgs, makeMaskingObject(result), 1L);
+
+        return plainObjectMapper.writeValueAsString(logEvent);
+    }
+
+    @Benchmark
+    public String maskedSerializer() throws JsonProcessingException {
+        LogEvent logEvent = LogEvent.success("회원가입", "MemberService", "register",
+                "GUEST", args, result, 1L);
+
+        return maskingObjectMapper.writeValueAsString(logEvent);
+    }
+
+    // 이전 LoggingAspect 의 마스킹 로직 복사본
+    private Object makeMaskingObject(Object arg) {
+        if (arg == null) {
+            return null;
+        }
+
+        if (arg instanceof MemberRegisterDto dto) {
+            return new MemberRegisterDto(
+                    dto.getEmployeeNumber(),
+                    "**********",
+                    dto.getName(),
+                    MaskingType.EMAIL.mask(dto.getEmail()),
+                    MaskingType.PHONE_NUMBER.mask(dto.getPhoneNumber()),
+                    dto.getPosition(),
+                    dto.getDepartmentId()
+            );
+        } else if (arg instanceof MemberUpdateDto dto) {
+            return new MemberUpdateDto(
+                    MaskingType.EMAIL.mask(dto.getEmail()),
+                    MaskingType.PHONE_NUMBER.mask(dto.getPhoneNumber()),
+                    dto.getPosition(),
+                    dto.getDepartmentId()
+            );
+        } else if (arg instanceof PasswordUpdateDto) {
+            return new PasswordUpdateDto("**********");
+        } else if (arg instanceof LoginRequestDto dto) {
+            return new LoginRequestDto(dto.getEmployeeNumber(), "**********");
+        } else if (arg instanceof TokenDto dto) {
+            return new TokenDto(
+                    MaskingType.TOKEN.mask(dto.getAccessToken()),
+                    MaskingType.TOKEN.mask(dto.getRefreshToken())
+            );
+        }
+
+        return arg;
+    }
+}
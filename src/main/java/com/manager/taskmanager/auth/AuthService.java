@@ -2,8 +2,10 @@ package com.manager.taskmanager.auth;
 
 import com.manager.taskmanager.auth.dto.LoginRequestDto;
 import com.manager.taskmanager.auth.dto.TokenDto;
+import com.manager.taskmanager.global.config.security.AccessTokenCache;
 import com.manager.taskmanager.global.config.security.JwtPayloadDto;
 import com.manager.taskmanager.global.config.security.JwtTokenUtil;
+import com.manager.taskmanager.global.config.security.LogoutTokenBlacklist;
 import com.manager.taskmanager.global.error.CustomException;
 import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.global.log.annotation.SaveLogging;
@@ -26,6 +28,8 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenUtil jwtTokenUtil;
+    private final AccessTokenCache accessTokenCache;
+    private final LogoutTokenBlacklist logoutTokenBlacklist;
     private final RedisTemplate<String, String> redisTemplate;
 
     // 로그인
@@ -61,7 +65,8 @@ public class AuthService {
         long expiration = tokenExpiration.getTime() - System.currentTimeMillis();
         String hashToken = jwtTokenUtil.tokenToHash(accessToken);
 
-        redisTemplate.opsForValue().set(hashToken, "logout", expiration, TimeUnit.MILLISECONDS);
+        logoutTokenBlacklist.add(hashToken, expiration);
+        accessTokenCache.invalidate(hashToken);
     }
 
     // 토큰 재발급
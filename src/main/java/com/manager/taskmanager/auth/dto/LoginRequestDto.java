@@ -1,5 +1,7 @@
 package com.manager.taskmanager.auth.dto;
 
+import com.manager.taskmanager.global.log.masking.Masked;
+import com.manager.taskmanager.global.log.masking.MaskingType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -22,5 +24,6 @@ public class LoginRequestDto {
 
     @Schema(description = "비밀번호")
     @NotBlank(message = "비밀번호는 필수 입력 값 입니다.")
+    @Masked(type = MaskingType.PASSWORD)
     private String password;
 }
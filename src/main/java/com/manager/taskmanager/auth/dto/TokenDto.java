@@ -1,5 +1,7 @@
 package com.manager.taskmanager.auth.dto;
 
+import com.manager.taskmanager.global.log.masking.Masked;
+import com.manager.taskmanager.global.log.masking.MaskingType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,8 +16,10 @@ import lombok.Setter;
 public class TokenDto {
 
     @Schema(name = "Access Token")
+    @Masked(type = MaskingType.TOKEN)
     private String accessToken;
 
     @Schema(name = "Refresh Token")
+    @Masked(type = MaskingType.TOKEN)
     private String refreshToken;
 }
@@ -13,7 +13,8 @@ import lombok.*;
 public class Department extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departmentSeqGenerator")
+    @SequenceGenerator(name = "departmentSeqGenerator", sequenceName = "departments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
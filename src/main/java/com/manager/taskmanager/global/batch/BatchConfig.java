@@ -0,0 +1,29 @@
+package com.manager.taskmanager.global.batch;
+
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+// 배치 인프라(JobRepository, JobLauncher 등) 설정 / 잡별 설정 클래스에는 @EnableBatchProcessing 을 두지 않음
+// (JobLauncher 는 처음 처리된 @EnableBatchProcessing 기준으로 한 번만 등록되므로 한 곳에서만 선언)
+// JobLauncher 는 taskExecutorRef 빈이 등록되어 있을 때만 그 실행기로 잡을 실행하고, 없으면 호출 스레드에서 동기 실행
+@Configuration
+@EnableBatchProcessing(taskExecutorRef = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+public class BatchConfig {
+
+    // virtual 프로필(JDK 21 이상)에서만 등록 : 잡을 가상 스레드에서 비동기로 실행
+    // 스프링 부트 기본 applicationTaskExecutor 와 같은 이름, 같은 설정이라 MVC 비동기 처리 / @Async 도 그대로 사용
+    // 기본 프로필에서는 자동 설정 빈이 이 설정보다 늦게 등록되므로 JobLauncher 는 기존처럼 동기 실행
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder) {
+        return simpleAsyncTaskExecutorBuilder.build();
+    }
+}
@@ -2,32 +2,59 @@ package com.manager.taskmanager.global.batch.notification;
 
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Map;
+
 @Configuration
-@EnableBatchProcessing
 public class DeleteNotificationBatchConfig {
 
+    private static final int CHUNK_SIZE = 100;
+
     @Bean
     public Step deleteNotificationsStep(
             JobRepository jobRepository,
             PlatformTransactionManager platformTransactionManager,
-            DeleteNotificationReader deleteNotificationReader,
+            JdbcPagingItemReader<Long> deleteNotificationReader,
             DeleteNotificationWriter deleteNotificationWriter) {
 
         return new StepBuilder("deleteNotificationsStep", jobRepository)
-                .<Long, Long>chunk(100, platformTransactionManager)
+                .<Long, Long>chunk(CHUNK_SIZE, platformTransactionManager)
                 .reader(deleteNotificationReader)
                 .writer(deleteNotificationWriter)
                 .build();
     }
 
+    // 읽은 지 1개월이 지난 알림 ID (ID 기준 keyset 페이징, 실행마다 새로 생성)
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> deleteNotificationReader(DataSource dataSource) {
+        LocalDate createdBefore = LocalDate.now().minusMonths(1);
+
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("deleteNotificationReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id")
+                .fromClause("FROM notifications")
+                .whereClause("WHERE is_read = true AND created_date < :createdBefore")
+                .parameterValues(Map.of("createdBefore", createdBefore))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getLong("id"))
+                .pageSize(CHUNK_SIZE)
+                .build();
+    }
+
     @Bean
     public Job deleteNotificationsJob(JobRepository jobRepository, Step deleteNotificationsStep) {
         return new JobBuilder("deleteNotificationsJob", jobRepository)
@@ -35,4 +62,4 @@ public class DeleteNotificationBatchConfig {
                 .build();
 
     }
-}
\ No newline at end of file
+}
@@ -4,37 +4,83 @@ import com.manager.taskmanager.member.dto.MemberTaskCountDto;
 import com.manager.taskmanager.notification.entity.Notification;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
-@EnableBatchProcessing
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Map;
+
 @Configuration
 public class SaveNotificationBatchConfig {
 
+    private static final int CHUNK_SIZE = 100;
+    private static final String SET_BASED_MODE = "set-based";
+
+    private final String mode;
+
+    public SaveNotificationBatchConfig(@Value("${batch.save-notification.mode:" + SET_BASED_MODE + "}") String mode) {
+        this.mode = mode;
+    }
+
+    // set-based: INSERT ... SELECT 한 번으로 생성, chunk: 회원별로 읽어서 청크 단위 저장
     @Bean
     public Step saveNotificationsStep(
             JobRepository jobRepository,
             PlatformTransactionManager platformTransactionManager,
-            SaveNotificationReader saveNotificationReader,
+            SaveNotificationTasklet saveNotificationTasklet,
+            JdbcPagingItemReader<MemberTaskCountDto> saveNotificationReader,
             SaveNotificationProcessor saveNotificationProcessor,
             SaveNotificationWriter saveNotificationWriter) {
 
+        if (SET_BASED_MODE.equals(mode)) {
+            return new StepBuilder("saveNotificationsStep", jobRepository)
+                    .tasklet(saveNotificationTasklet, platformTransactionManager)
+                    .build();
+        }
+
         return new StepBuilder("saveNotificationsStep", jobRepository)
-                .<MemberTaskCountDto, Notification>chunk(100, platformTransactionManager)
+                .<MemberTaskCountDto, Notification>chunk(CHUNK_SIZE, platformTransactionManager)
                 .reader(saveNotificationReader)
                 .processor(saveNotificationProcessor)
                 .writer(saveNotificationWriter)
                 .build();
     }
 
+    // 오늘 마감인 미완료 업무 수 (회원 ID 기준 keyset 페이징, 실행마다 새로 생성)
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<MemberTaskCountDto> saveNotificationReader(DataSource dataSource) {
+        return new JdbcPagingItemReaderBuilder<MemberTaskCountDto>()
+                .name("saveNotificationReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT c.member_id AS member_id, c.task_count AS task_count")
+                .fromClause("FROM member_deadline_counts c " +
+                        "JOIN members m ON c.member_id = m.id")
+                .whereClause("WHERE c.deadline_date = :today " +
+                        "AND c.task_count > 0 " +
+                        "AND m.deleted_at IS NULL")
+                .parameterValues(Map.of("today", LocalDate.now()))
+                .sortKeys(Map.of("member_id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> new MemberTaskCountDto(rs.getLong("member_id"), rs.getLong("task_count")))
+                .pageSize(CHUNK_SIZE)
+                .build();
+    }
+
     @Bean
-    public Job saveNotificationsJob(JobRepository jobRepository, Step saveNotificationsStep) {
+    public Job saveNotificationsJob(JobRepository jobRepository, Step saveNotificationsStep,
+                                    SaveNotificationJobListener saveNotificationJobListener) {
         return new JobBuilder("saveNotificationsJob", jobRepository)
+                .listener(saveNotificationJobListener)
                 .start(saveNotificationsStep)
                 .build();
 
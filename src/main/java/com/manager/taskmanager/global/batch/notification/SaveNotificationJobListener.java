@@ -0,0 +1,25 @@
+package com.manager.taskmanager.global.batch.notification;
+
+import com.manager.taskmanager.notification.NotificationEmitterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class SaveNotificationJobListener implements JobExecutionListener {
+
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+
+    // 알림 저장 완료 후 구독 중인 클라이언트에 전송 (커밋된 알림만 전송되도록 Job 종료 후 전파)
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            notificationEmitterRegistry.publishCreated(LocalDate.now());
+        }
+    }
+}
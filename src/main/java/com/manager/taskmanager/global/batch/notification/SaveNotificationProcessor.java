@@ -1,7 +1,5 @@
 package com.manager.taskmanager.global.batch.notification;
 
-import com.manager.taskmanager.global.error.CustomException;
-import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.member.MemberRepository;
 import com.manager.taskmanager.member.dto.MemberTaskCountDto;
 import com.manager.taskmanager.member.entity.Member;
@@ -18,16 +16,16 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class SaveNotificationProcessor implements ItemProcessor<MemberTaskCountDto, Notification> {
 
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd (E)", Locale.KOREA);
+
     private final MemberRepository memberRepository;
 
     @Override
     public Notification process(MemberTaskCountDto memberTaskCountDto) throws Exception {
-        Member member = memberRepository.findByIdAndDeletedAtIsNull(memberTaskCountDto.getMemberId())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        // 탈퇴 회원은 리더에서 제외되므로 조회 없이 참조만 사용
+        Member member = memberRepository.getReferenceById(memberTaskCountDto.getMemberId());
 
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd (E)", Locale.KOREA);
-        LocalDate today = LocalDate.now();
-        String date = today.format(dateTimeFormatter);
+        String date = LocalDate.now().format(DATE_FORMATTER);
 
         String message = String.format("%s - 오늘 마감해야 할 업무가 %d건 있습니다.", date, memberTaskCountDto.getTaskCount());
 
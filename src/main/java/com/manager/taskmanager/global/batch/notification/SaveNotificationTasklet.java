@@ -0,0 +1,45 @@
+package com.manager.taskmanager.global.batch.notification;
+
+import com.manager.taskmanager.notification.NotificationRepository;
+import com.manager.taskmanager.notification.UnreadNotificationCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class SaveNotificationTasklet implements Tasklet {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    // 오늘 마감 업무 알림을 INSERT ... SELECT 한 번으로 생성 (이미 생성된 알림은 유니크 제약으로 건너뜀)
+    // 새로 알림이 생긴 회원은 저장 전후 오늘 알림이 있는 회원을 비교해 구한 뒤 읽지 않은 알림 수 증가
+    // 쓰기 건수도 새로 생긴 알림 수로 기록 (ON DUPLICATE KEY UPDATE 는 중복 행도 영향받은 행으로 반환)
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDate today = LocalDate.now();
+        String date = today.format(SaveNotificationProcessor.DATE_FORMATTER);
+
+        Set<Long> existingMemberIds = new HashSet<>(notificationRepository.findMemberIdsByCreatedDate(today));
+
+        notificationRepository.insertDueTodayNotifications(today, date);
+
+        List<Long> newMemberIds = notificationRepository.findMemberIdsByCreatedDate(today).stream()
+                .filter(memberId -> !existingMemberIds.contains(memberId))
+                .toList();
+
+        contribution.incrementWriteCount(newMemberIds.size());
+        unreadNotificationCounter.incrementAll(newMemberIds);
+
+        return RepeatStatus.FINISHED;
+    }
+}
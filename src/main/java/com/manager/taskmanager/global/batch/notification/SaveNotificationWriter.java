@@ -1,27 +1,55 @@
 package com.manager.taskmanager.global.batch.notification;
 
 import com.manager.taskmanager.notification.NotificationRepository;
+import com.manager.taskmanager.notification.UnreadNotificationCounter;
 import com.manager.taskmanager.notification.entity.Notification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Date;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class SaveNotificationWriter implements ItemWriter<Notification> {
 
+    private static final String INSERT_SQL = "INSERT INTO notifications (member_id, message, is_read, created_date) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE notifications.id = notifications.id";
+
+    private final JdbcTemplate jdbcTemplate;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
+    // 알림 ID 가 IDENTITY 라 JPA 로는 배치 INSERT 가 안 되므로 JDBC 배치로 저장 (회원은 프록시 참조의 ID 만 사용)
+    // 배치 결과 건수로는 신규/중복을 구분할 수 없으므로, 저장 전에 이미 알림이 있는 회원을 조회해 제외하고 읽지 않은 알림 수 증가
     @Override
     public void write(Chunk<? extends Notification> chunk) throws Exception {
         List<Notification> notifications = new ArrayList<>(chunk.getItems());
 
         if (!notifications.isEmpty()) {
-            notificationRepository.saveAll(notifications);
+            Set<Long> newMemberIds = notifications.stream()
+                    .map(notification -> notification.getMember().getId())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            newMemberIds.removeAll(notificationRepository.findMemberIdsByCreatedDate(
+                    newMemberIds, notifications.get(0).getCreatedDate()));
+
+            jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+                ps.setLong(1, notification.getMember().getId());
+                ps.setString(2, notification.getMessage());
+                ps.setBoolean(3, notification.isRead());
+                ps.setDate(4, Date.valueOf(notification.getCreatedDate()));
+            });
+
+            unreadNotificationCounter.incrementAll(newMemberIds);
         }
     }
-}
\ No newline at end of file
+}
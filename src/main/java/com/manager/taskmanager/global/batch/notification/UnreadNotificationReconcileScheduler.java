@@ -0,0 +1,94 @@
+package com.manager.taskmanager.global.batch.notification;
+
+import com.manager.taskmanager.notification.NotificationRepository;
+import com.manager.taskmanager.notification.UnreadNotificationCounter;
+import com.manager.taskmanager.notification.dto.MemberUnreadCountDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 읽지 않은 알림 수 재동기화 (Redis 에 있는 카운터만 DB 기준으로 보정)
+@Component
+@RequiredArgsConstructor
+@EnableScheduling
+@Slf4j
+public class UnreadNotificationReconcileScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval:600000}")
+    public void run() {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(UnreadNotificationCounter.KEY_PREFIX + "*")
+                .count(1000)
+                .build();
+
+        List<String> keys = new ArrayList<>();
+        int repairedCount = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+
+                if (keys.size() == BATCH_SIZE) {
+                    repairedCount += reconcile(keys);
+                    keys.clear();
+                }
+            }
+
+            repairedCount += reconcile(keys);
+        } catch (Exception e) {
+            log.error(">>> 읽지 않은 알림 수 재동기화 중 오류가 발생하였습니다. <<<", e);
+        }
+
+        if (repairedCount > 0) {
+            log.info(">>> 읽지 않은 알림 수 {}건 보정 <<<", repairedCount);
+        }
+    }
+
+    // Redis 값을 먼저 읽고 DB 와 비교 (읽은 값이 그대로일 때만 보정)
+    private int reconcile(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        List<Long> memberIds = keys.stream()
+                .map(key -> Long.parseLong(key.substring(UnreadNotificationCounter.KEY_PREFIX.length())))
+                .toList();
+
+        Map<Long, Long> actualCounts = notificationRepository.countUnreadByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(MemberUnreadCountDto::getMemberId, MemberUnreadCountDto::getUnreadCount));
+
+        int repairedCount = 0;
+
+        for (int i = 0; i < memberIds.size(); i++) {
+            String cached = values != null ? values.get(i) : null;
+            long actual = actualCounts.getOrDefault(memberIds.get(i), 0L);
+
+            if (cached == null || cached.equals(String.valueOf(actual))) {
+                continue;
+            }
+
+            if (unreadNotificationCounter.compareAndSet(memberIds.get(i), cached, actual)) {
+                repairedCount++;
+            }
+        }
+
+        return repairedCount;
+    }
+}
@@ -1,35 +1,100 @@
 package com.manager.taskmanager.global.batch.task;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Configuration
-@RequiredArgsConstructor
-@EnableBatchProcessing
 public class OldTaskDeleteBatchConfig {
 
+    private final int gridSize;
+    private final int chunkSize;
+    private final int concurrency;
+    private final Environment environment;
+
+    public OldTaskDeleteBatchConfig(@Value("${batch.old-task-delete.grid-size:4}") int gridSize,
+                                    @Value("${batch.old-task-delete.chunk-size:100}") int chunkSize,
+                                    @Value("${batch.old-task-delete.concurrency:${batch.old-task-delete.grid-size:4}}") int concurrency,
+                                    Environment environment) {
+        this.gridSize = gridSize;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.environment = environment;
+    }
+
+    // ID 구간별 파티션을 워커 스텝으로 병렬 실행 (파티션별 진행 상황은 배치 메타데이터에 기록)
     @Bean
     public Step deleteOldTasksStep(
+            JobRepository jobRepository,
+            OldTaskDeletePartitioner oldTaskDeletePartitioner,
+            Step deleteOldTasksWorkerStep) {
+
+        return new StepBuilder("deleteOldTasksStep", jobRepository)
+                .partitioner("deleteOldTasksWorkerStep", oldTaskDeletePartitioner)
+                .step(deleteOldTasksWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(oldTaskDeleteTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step deleteOldTasksWorkerStep(
             JobRepository jobRepository,
             PlatformTransactionManager platformTransactionManager,
-            OldTaskDeleteReader oldTaskDeleteReader,
+            JdbcPagingItemReader<Long> oldTaskDeleteReader,
             OldTaskDeleteWriter oldTaskDeleteWriter) {
 
-        return new StepBuilder("deleteOldTasksStep", jobRepository)
-                .<Long, Long>chunk(100, platformTransactionManager)
+        return new StepBuilder("deleteOldTasksWorkerStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, platformTransactionManager)
                 .reader(oldTaskDeleteReader)
                 .writer(oldTaskDeleteWriter)
                 .build();
     }
 
+    // 파티션에 할당된 ID 구간 안에서 취소 후 3개월이 지난 업무 ID (ID 기준 keyset 페이징)
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> oldTaskDeleteReader(
+            DataSource dataSource,
+            @Value("#{stepExecutionContext['" + OldTaskDeletePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + OldTaskDeletePartitioner.MAX_ID + "']}") Long maxId,
+            @Value("#{stepExecutionContext['" + OldTaskDeletePartitioner.DELETED_BEFORE + "']}") String deletedBefore) {
+
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("oldTaskDeleteReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id")
+                .fromClause("FROM tasks")
+                .whereClause("WHERE task_status = 'CANCELED' AND deleted_at <= :deletedBefore " +
+                        "AND id BETWEEN :minId AND :maxId")
+                .parameterValues(Map.of(
+                        "deletedBefore", LocalDateTime.parse(deletedBefore),
+                        "minId", minId,
+                        "maxId", maxId))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getLong("id"))
+                .pageSize(chunkSize)
+                .build();
+    }
+
     @Bean
     public Job deleteOldTasksJob(JobRepository jobRepository, Step deleteOldTasksStep) {
         return new JobBuilder("deleteOldTasksJob", jobRepository)
@@ -37,4 +102,14 @@ public class OldTaskDeleteBatchConfig {
                 .build();
 
     }
+
+    // 빈으로 등록하면 스프링 부트 기본 applicationTaskExecutor 가 비활성화되므로 스텝 전용으로만 생성
+    // 동시 실행 수만큼 DB 커넥션을 사용하므로 커넥션 풀 크기보다 작게 설정해야 함
+    // spring.threads.virtual.enabled (JDK 21 이상) 이면 파티션도 가상 스레드로 실행 (동시 실행 수 제한은 동일)
+    private TaskExecutor oldTaskDeleteTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("old-task-delete-");
+        taskExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        taskExecutor.setConcurrencyLimit(concurrency);
+        return taskExecutor;
+    }
 }
@@ -0,0 +1,63 @@
+package com.manager.taskmanager.global.batch.task;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class OldTaskDeletePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+    public static final String DELETED_BEFORE = "deletedBefore";
+
+    private static final String MIN_MAX_ID_SQL =
+            "SELECT MIN(id), MAX(id) FROM tasks WHERE task_status = 'CANCELED' AND deleted_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 삭제 대상 업무의 ID 범위를 gridSize 개의 구간으로 나눔 (모든 파티션이 같은 기준 시각 사용)
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        LocalDateTime deletedBefore = LocalDateTime.now().minusMonths(3);
+
+        long[] range = jdbcTemplate.queryForObject(MIN_MAX_ID_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                deletedBefore);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        // 대상이 없으면 빈 구간 하나만 생성
+        if (range == null || range[1] == 0) {
+            partitions.put("partition0", createContext(1L, 0L, deletedBefore));
+            return partitions;
+        }
+
+        long minId = range[0];
+        long maxId = range[1];
+        long targetSize = (maxId - minId) / gridSize + 1;
+
+        int number = 0;
+        for (long start = minId; start <= maxId; start += targetSize) {
+            long end = Math.min(start + targetSize - 1, maxId);
+            partitions.put("partition" + number++, createContext(start, end, deletedBefore));
+        }
+
+        return partitions;
+    }
+
+    private ExecutionContext createContext(long minId, long maxId, LocalDateTime deletedBefore) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        context.putString(DELETED_BEFORE, deletedBefore.toString());
+        return context;
+    }
+}
@@ -1,38 +1,108 @@
 package com.manager.taskmanager.global.config;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.manager.taskmanager.global.config.cache.TwoLevelCacheManager;
+import com.manager.taskmanager.global.config.cache.TwoLevelCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
 public class CacheConfig {
 
+    // 로컬 Caffeine(L1) + Redis(L2) 2단 캐시
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             TwoLevelCacheProperties twoLevelCacheProperties,
+                                             MeterRegistry meterRegistry) {
+        TwoLevelCacheManager twoLevelCacheManager = new TwoLevelCacheManager(
+                redisCacheManager(redisConnectionFactory, twoLevelCacheProperties),
+                twoLevelCacheProperties,
+                redisTemplate,
+                meterRegistry
+        );
+
+        redisMessageListenerContainer.addMessageListener(twoLevelCacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+
+        return twoLevelCacheManager;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                TwoLevelCacheProperties twoLevelCacheProperties) {
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+
+        twoLevelCacheProperties.getCaches().forEach((cacheName, spec) ->
+                cacheConfigurations.put(cacheName, redisCacheConfiguration(spec)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(redisCacheConfiguration(twoLevelCacheProperties.getDefaults()))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return redisCacheManager;
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(TwoLevelCacheProperties.Spec spec) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(spec.getTtl())
                 .disableCachingNullValues()
+                // 값 직렬화 형식 변경 시 이전 형식의 항목을 읽지 않도록 키 접두사에 버전 포함
+                .prefixCacheNameWith("v2:")
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
                                 new StringRedisSerializer())
                 )
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer()
+                                GenericJackson2JsonRedisSerializer.builder()
+                                        .objectMapper(cacheObjectMapper())
+                                        .defaultTyping(true)
+                                        .registerNullValueSerializer(true)
+                                        .build()
                         )
                 );
+    }
 
-        return RedisCacheManager.builder(redisConnectionFactory)
-                .cacheDefaults(redisCacheConfiguration)
-                .build();
+    // 캐시 값 직렬화용 ObjectMapper (LocalDate 등 java.time 지원)
+    // 타입 정보는 직렬화기의 defaultTyping 이 포함하고, 역직렬화 허용 타입은 아래 검증기로 제한
+    private ObjectMapper cacheObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        objectMapper.setPolymorphicTypeValidator(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.manager.taskmanager.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .allowIfSubType("java.lang.")
+                        .build()
+        );
+
+        return objectMapper;
     }
 }
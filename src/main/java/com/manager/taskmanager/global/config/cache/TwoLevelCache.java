@@ -0,0 +1,150 @@
+package com.manager.taskmanager.global.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+// 로컬 Caffeine(L1) 에서 먼저 찾고 없으면 Redis(L2) 조회 후 L1 에 적재
+// 변경(put / evict / clear) 은 L2 와 L1 에 반영한 뒤 다른 서버의 L1 무효화를 요청
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final TwoLevelCacheManager cacheManager;
+
+    private final Counter localHitCounter;
+    private final Counter localMissCounter;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         TwoLevelCacheManager cacheManager,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+
+        this.localHitCounter = meterRegistry.counter("cache.two-level.gets", "cache", name, "level", "local", "result", "hit");
+        this.localMissCounter = meterRegistry.counter("cache.two-level.gets", "cache", name, "level", "local", "result", "miss");
+        this.remoteHitCounter = meterRegistry.counter("cache.two-level.gets", "cache", name, "level", "remote", "result", "hit");
+        this.remoteMissCounter = meterRegistry.counter("cache.two-level.gets", "cache", name, "level", "remote", "result", "miss");
+    }
+
+    // 다른 서버에서도 같은 키로 찾을 수 있도록 L1 키는 문자열로 통일 (RedisCache 키 변환과 동일한 기준)
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+
+        if (value != null) {
+            localHitCounter.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        localMissCounter.increment();
+
+        ValueWrapper valueWrapper = remoteCache.get(key);
+
+        if (valueWrapper == null || valueWrapper.get() == null) {
+            remoteMissCounter.increment();
+            return valueWrapper;
+        }
+
+        remoteHitCounter.increment();
+        localCache.put(localKey, valueWrapper.get());
+
+        return valueWrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+
+        if (value != null) {
+            localHitCounter.increment();
+            return (T) value;
+        }
+
+        localMissCounter.increment();
+
+        T loaded = remoteCache.get(key, valueLoader);
+
+        if (loaded != null) {
+            localCache.put(localKey, loaded);
+        }
+
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+
+        if (value != null) {
+            localCache.put(toLocalKey(key), value);
+        }
+
+        cacheManager.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+
+        cacheManager.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+
+        cacheManager.publishClear(name);
+    }
+
+    // 다른 서버의 변경 수신 시 L1 만 무효화
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+}
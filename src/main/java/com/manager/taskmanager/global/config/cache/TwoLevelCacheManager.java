@@ -0,0 +1,114 @@
+package com.manager.taskmanager.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// L1(Caffeine) + L2(Redis) 캐시 매니저 / 서버 간 L1 무효화는 Redis Pub/Sub 으로 전파
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+
+    // 자기 자신이 보낸 메시지는 무시하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisCacheManager redisCacheManager;
+    private final TwoLevelCacheProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                TwoLevelCacheProperties properties,
+                                RedisTemplate<String, String> redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.computeIfAbsent(name, this::createCache);
+
+        if (properties.getSpec(name).isTransactionAware()) {
+            return new TransactionAwareCacheDecorator(cache);
+        }
+
+        return cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        TwoLevelCacheProperties.Spec spec = properties.getSpec(name);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaximumSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .build();
+
+        return new TwoLevelCache(name, localCache, redisCacheManager.getCache(name), this, meterRegistry);
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(EVICT, cacheName, localKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    // "서버ID|명령|캐시이름|키"
+    private void publish(String command, String cacheName, String localKey) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("|", nodeId, command, cacheName, localKey));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 서버의 L1 은 localTtl 이후 만료됨
+            log.error(">>> 캐시 무효화 전파 실패 : {} <<<", cacheName, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1])) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.manager.taskmanager.global.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 캐시별 TTL / 로컬 캐시 크기 설정 (caches 에 없는 캐시는 defaults 사용)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.two-level")
+public class TwoLevelCacheProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec getSpec(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        // Redis(L2) TTL
+        private Duration ttl = Duration.ofMinutes(30);
+
+        // 로컬(L1) TTL / 최대 항목 수
+        private Duration localTtl = Duration.ofMinutes(5);
+        private long localMaximumSize = 1000;
+
+        // put / evict 를 트랜잭션 커밋 이후에 반영 (롤백 시 캐시 변경 없음)
+        private boolean transactionAware = false;
+    }
+}
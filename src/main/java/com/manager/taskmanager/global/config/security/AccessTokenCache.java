@@ -0,0 +1,61 @@
+package com.manager.taskmanager.global.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// 검증이 끝난 Access Token 정보를 토큰 해시 기준으로 보관 (토큰 만료 시각에 맞춰 항목별로 만료)
+@Component
+public class AccessTokenCache {
+
+    private final Cache<String, CachedAccessToken> cache;
+
+    public AccessTokenCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedAccessToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAccessToken value, long currentTime) {
+                        long remainMillis = value.expiresAt() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAccessToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAccessToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 캐시에 없거나 만료되었으면 null
+    public JwtPayloadDto get(String hashToken) {
+        CachedAccessToken cachedAccessToken = cache.getIfPresent(hashToken);
+
+        if (cachedAccessToken == null || cachedAccessToken.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        return cachedAccessToken.payload();
+    }
+
+    public void put(String hashToken, JwtPayloadDto jwtPayloadDto, long expiresAt) {
+        cache.put(hashToken, new CachedAccessToken(jwtPayloadDto, expiresAt));
+    }
+
+    public void invalidate(String hashToken) {
+        cache.invalidate(hashToken);
+    }
+
+    private record CachedAccessToken(JwtPayloadDto payload, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.manager.taskmanager.global.config.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +8,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,7 +25,8 @@ import java.util.List;
 @Profile("!test")
 public class JwtTokenFilter extends OncePerRequestFilter {
     private final JwtTokenUtil jwtTokenUtil;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final AccessTokenCache accessTokenCache;
+    private final LogoutTokenBlacklist logoutTokenBlacklist;
 
     private final List<PermitPass> PASS_PATHS = List.of(
             new PermitPass(HttpMethod.GET, "/api/departments"),
@@ -60,17 +61,29 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         String accessToken = authorizationHeader.substring(7);
 
-        // 토큰이 없거나 만료되었으면 403
-        if (jwtTokenUtil.isTokenExpired(accessToken)) {
-            log.error(">>> Access Token 만료 <<<");
+        String hashToken = jwtTokenUtil.tokenToHash(accessToken);
 
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+        // 이미 검증된 토큰이면 서명 검증 생략
+        JwtPayloadDto jwtPayloadDto = accessTokenCache.get(hashToken);
 
-            return;
+        if (jwtPayloadDto == null) {
+            Claims claims = jwtTokenUtil.verifyAccessToken(accessToken);
+
+            // 토큰이 유효하지 않거나 만료되었으면 401
+            if (claims == null) {
+                log.error(">>> Access Token 만료 <<<");
+
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+
+                return;
+            }
+
+            jwtPayloadDto = jwtTokenUtil.toJwtPayload(claims);
+            accessTokenCache.put(hashToken, jwtPayloadDto, claims.getExpiration().getTime());
         }
 
-        // 로그아웃되었으면 403
-        if (isLogout(accessToken)) {
+        // 로그아웃되었으면 401
+        if (logoutTokenBlacklist.isLogout(hashToken)) {
             log.error(">>> 로그아웃된 Access Token <<<");
 
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
@@ -78,8 +91,6 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             return;
         }
 
-        JwtPayloadDto jwtPayloadDto = jwtTokenUtil.parseAccessToken(accessToken);
-
         Long id = jwtPayloadDto.getId();
         String employeeNumber = jwtPayloadDto.getEmployeeNumber();
         String role = jwtPayloadDto.getRole();
@@ -107,10 +118,4 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    private boolean isLogout(String accessToken) {
-        String hashToken = jwtTokenUtil.tokenToHash(accessToken);
-
-        return redisTemplate.opsForValue().get(hashToken) != null;
-    }
 }
@@ -5,33 +5,59 @@ import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.member.entity.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 public class JwtTokenUtil {
 
+     private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+     // MessageDigest 는 스레드 안전하지 않으므로 스레드별로 하나씩 생성 (digest() 호출 시 자동 초기화)
+     private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtTokenUtil::createSha256);
+
+     // 가상 스레드는 요청마다 새로 생성되어 ThreadLocal 캐시가 재사용되지 않으므로 원본을 복제해서 사용
+     private static final MessageDigest SHA_256_PROTOTYPE = createSha256();
+
      private final SecretKey secretKey;
+     private final JwtParser jwtParser;
      private final Long accessTokenExpiration;
      private final Long refreshTokenExpiration;
+     private final Supplier<MessageDigest> sha256;
 
+     @Autowired
      public JwtTokenUtil(@Value("${jwt.secretKey}") String secretKey,
                          @Value("${jwt.access.expiration}") Long accessTokenExpiration,
-                         @Value("${jwt.refresh.expiration}") Long refreshTokenExpiration) {
+                         @Value("${jwt.refresh.expiration}") Long refreshTokenExpiration,
+                         Environment environment) {
+         this(secretKey, accessTokenExpiration, refreshTokenExpiration, Threading.VIRTUAL.isActive(environment));
+     }
+
+     public JwtTokenUtil(String secretKey, Long accessTokenExpiration, Long refreshTokenExpiration, boolean virtualThreads) {
          this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+         this.jwtParser = Jwts.parserBuilder()
+                 .setSigningKey(this.secretKey)
+                 .build();
          this.accessTokenExpiration = accessTokenExpiration;
          this.refreshTokenExpiration = refreshTokenExpiration;
+         this.sha256 = virtualThreads ? JwtTokenUtil::cloneSha256 : SHA_256::get;
      }
 
     // AccessToken 생성
@@ -97,33 +123,42 @@ public class JwtTokenUtil {
                 .compact();
     }
 
-    // Token 해쉬 처리
+    // Token 해쉬 처리 (스레드별 MessageDigest 재사용 / 가상 스레드는 원본 복제, 16진수 변환은 룩업 테이블 사용)
     public String tokenToHash(String accessToken) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        MessageDigest digest = sha256.get();
+        byte[] hashBytes = digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
 
-            byte[] hashBytes = digest.digest(accessToken.getBytes());
-            StringBuilder hexString = new StringBuilder();
+        char[] hexChars = new char[hashBytes.length * 2];
 
-            for (byte b : hashBytes) {
-                hexString.append(String.format("%02x", b));
-            }
+        for (int i = 0; i < hashBytes.length; i++) {
+            int value = hashBytes[i] & 0xFF;
+            hexChars[i * 2] = HEX_DIGITS[value >>> 4];
+            hexChars[i * 2 + 1] = HEX_DIGITS[value & 0x0F];
+        }
 
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error(">>> AccessToken 해시 처리 중 오류가 발생하였습니다. <<<");
+        return new String(hexChars);
+    }
 
-            return null;
+    private static MessageDigest cloneSha256() {
+        try {
+            return (MessageDigest) SHA_256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return createSha256();
+        }
+    }
+
+    private static MessageDigest createSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
         }
     }
 
     // 토큰 만료일 조회
     public Date getTokenExpiration(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
+            return jwtParser.parseClaimsJws(token)
                     .getBody()
                     .getExpiration();
         } catch (ExpiredJwtException e) {
@@ -140,10 +175,7 @@ public class JwtTokenUtil {
     // 토큰 만료여부 체크 / 만료 : true
     public boolean isTokenExpired(String token) {
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
+            Date expiration = jwtParser.parseClaimsJws(token)
                     .getBody()
                     .getExpiration();
 
@@ -160,16 +192,30 @@ public class JwtTokenUtil {
          return refreshTokenExpiration;
     }
 
+    // Access Token 검증 / 서명이 틀렸거나 만료되었으면 null
+    public Claims verifyAccessToken(String accessToken) {
+        try {
+            Claims body = jwtParser.parseClaimsJws(accessToken).getBody();
+
+            if (body.getExpiration() == null || body.getExpiration().before(new Date())) {
+                return null;
+            }
+
+            return body;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     // Access Token 토큰 정보
     public JwtPayloadDto parseAccessToken(String accessToken) {
-        Claims body = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody();
+        return toJwtPayload(jwtParser.parseClaimsJws(accessToken).getBody());
+    }
 
+    // 검증된 Access Token 정보 변환
+    public JwtPayloadDto toJwtPayload(Claims body) {
         String employeeNumber = body.getSubject();
-        Long memberId = ((Integer) body.get("memberId")).longValue();
+        Long memberId = ((Number) body.get("memberId")).longValue();
         String role = (String) body.get("role");
         String department = (String) body.get("department");
 
@@ -184,10 +230,7 @@ public class JwtTokenUtil {
 
     // Refresh Token 정보
     public String parseRefreshToken(String refreshToken) {
-        Claims body = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(refreshToken)
+        Claims body = jwtParser.parseClaimsJws(refreshToken)
                 .getBody();
 
         return body.getSubject();
@@ -0,0 +1,130 @@
+package com.manager.taskmanager.global.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 로그아웃된 Access Token 해시의 로컬 사본 (Redis Pub/Sub 으로 즉시 반영, 주기적으로 SCAN 재동기화)
+// 로컬에 없는 토큰은 Redis 조회 없이 통과시키고, 로컬에 있는 토큰만 Redis 에서 확인
+@Slf4j
+@Component
+public class LogoutTokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "auth:logout";
+    private static final String LOGOUT_VALUE = "logout";
+
+    // 로그아웃 키는 SHA-256 해시(64자리 16진수) 그대로 저장됨
+    private static final String KEY_PATTERN = "[0-9a-f]".repeat(64);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, Long> localBlacklist = new ConcurrentHashMap<>();
+
+    private final Counter localMissCounter;
+    private final Counter hitCounter;
+    private final Counter falsePositiveCounter;
+
+    public LogoutTokenBlacklist(RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        this.localMissCounter = meterRegistry.counter("auth.logout.blacklist.lookup", "result", "local_miss");
+        this.hitCounter = meterRegistry.counter("auth.logout.blacklist.lookup", "result", "hit");
+        this.falsePositiveCounter = meterRegistry.counter("auth.logout.blacklist.lookup", "result", "false_positive");
+        meterRegistry.gaugeMapSize("auth.logout.blacklist.size", Tags.empty(), localBlacklist);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 로그아웃 등록 (Redis 저장 후 다른 서버에 전파)
+    public void add(String hashToken, long expirationMillis) {
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+
+        redisTemplate.opsForValue().set(hashToken, LOGOUT_VALUE, expirationMillis, TimeUnit.MILLISECONDS);
+        localBlacklist.put(hashToken, expiresAt);
+        redisTemplate.convertAndSend(CHANNEL, hashToken + ":" + expiresAt);
+    }
+
+    // 로그아웃 여부 / 로컬 사본에 있을 때만 Redis 로 확인
+    public boolean isLogout(String hashToken) {
+        Long expiresAt = localBlacklist.get(hashToken);
+
+        if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+            localMissCounter.increment();
+            return false;
+        }
+
+        if (redisTemplate.opsForValue().get(hashToken) != null) {
+            hitCounter.increment();
+            return true;
+        }
+
+        falsePositiveCounter.increment();
+        localBlacklist.remove(hashToken);
+
+        return false;
+    }
+
+    // 다른 서버의 로그아웃 수신 ("해시:만료시각")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+
+        if (separator < 0) {
+            return;
+        }
+
+        try {
+            localBlacklist.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.error(">>> 잘못된 로그아웃 메시지입니다. : {} <<<", body);
+        }
+    }
+
+    // Pub/Sub 메시지 유실 대비 재동기화 (추가만 하고, 만료된 항목만 제거)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.logout-blacklist.sync-interval:60000}")
+    public void synchronize() {
+        long now = System.currentTimeMillis();
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(KEY_PATTERN).count(1000).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                String hashToken = cursor.next();
+
+                // 이미 로컬에 있는 키는 만료 시각을 알고 있으므로 TTL 조회 생략 (키마다 Redis 왕복 방지)
+                if (localBlacklist.containsKey(hashToken)) {
+                    continue;
+                }
+
+                Long ttl = redisTemplate.getExpire(hashToken, TimeUnit.MILLISECONDS);
+
+                if (ttl != null && ttl > 0) {
+                    localBlacklist.putIfAbsent(hashToken, now + ttl);
+                }
+            }
+        } catch (Exception e) {
+            log.error(">>> 로그아웃 목록 동기화 중 오류가 발생하였습니다. <<<", e);
+        }
+
+        localBlacklist.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -1,6 +1,7 @@
 package com.manager.taskmanager.global.config.security;
 
 import com.manager.taskmanager.global.config.CorsConfig;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +39,9 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
                 .authorizeHttpRequests((request) -> request
+                        // SSE 등 비동기 요청 완료 시 재디스패치 (최초 요청에서 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
 
                         .requestMatchers(HttpMethod.POST, "/api/departments").hasRole("MANAGER")
@@ -50,6 +54,9 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.POST, "/api/members/*/password/reset").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/api/members/**").hasRole("MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/tasks/export").hasRole("MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/tasks/deadline-counts").hasRole("MANAGER")
+                        .requestMatchers("/actuator/**").hasRole("MANAGER")
                         .anyRequest().authenticated()
                 )
                 .cors(cors -> cors
@@ -21,6 +21,8 @@ public enum ErrorCode {
     INVALID_PROJECT_STATUS(HttpStatus.BAD_REQUEST, "INVALID_PROJECT_STATUS", "프로젝트 상태 값이 유효하지 않습니다."),
     INVALID_PROJECT_DATE(HttpStatus.BAD_REQUEST, "INVALID_PROJECT_DATE", "프로젝트 시작날짜와 종료날짜를 확인해주세요."),
     INVALID_TASK_STATUS(HttpStatus.BAD_REQUEST, "INVALID_TASK_STATUS", "업무 상태 값이 유효하지 않습니다."),
+    INVALID_SEARCH_MODE(HttpStatus.BAD_REQUEST, "INVALID_SEARCH_MODE", "검색 방식 값이 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "커서 값이 유효하지 않습니다."),
 
     // DUPLICATE
     DEPARTMENT_DUPLICATE(HttpStatus.CONFLICT, "DEPARTMENT_DUPLICATE", "이미 등록된 부서입니다."),
@@ -1,16 +1,10 @@
 package com.manager.taskmanager.global.log.aop;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.manager.taskmanager.auth.dto.LoginRequestDto;
-import com.manager.taskmanager.auth.dto.TokenDto;
 import com.manager.taskmanager.global.config.security.CustomUserDetails;
 import com.manager.taskmanager.global.log.annotation.SaveLogging;
+import com.manager.taskmanager.global.log.async.LogEventWriter;
 import com.manager.taskmanager.global.log.dto.LogEvent;
-import com.manager.taskmanager.member.dto.MemberRegisterDto;
-import com.manager.taskmanager.member.dto.MemberUpdateDto;
-import com.manager.taskmanager.member.dto.PasswordUpdateDto;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -18,15 +12,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
-@Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class LoggingAspect {
 
-    private final ObjectMapper objectMapper;
+    private final LogEventWriter logEventWriter;
 
     @Around("@annotation(saveLogging)")
     public Object saveLog(ProceedingJoinPoint joinPoint, SaveLogging saveLogging) throws Throwable {
@@ -42,8 +33,8 @@ public class LoggingAspect {
         String className = joinPoint.getSignature().getDeclaringTypeName();
         String methodName = joinPoint.getSignature().getName();
 
+        // 마스킹은 @Masked 필드 기준으로 직렬화 시 처리
         Object[] args = joinPoint.getArgs();
-        Object[] maskingArgs = makeMaskingData(args);
 
         long start = System.currentTimeMillis();
         Object result;
@@ -56,108 +47,29 @@ public class LoggingAspect {
                     className,
                     methodName,
                     employeeNumber,
-                    maskingArgs,
+                    args,
                     e.getMessage()
             );
 
-            String jsonData = objectMapper.writeValueAsString(errorLog);
-
-            log.error(jsonData, e);
+            logEventWriter.write(errorLog, e);
 
             throw e;
         }
 
         long duration = System.currentTimeMillis() - start;
 
-        Object maskingResult = makeMaskingObject(result);
-
         LogEvent successLog = LogEvent.success(
                 eventName,
                 className,
                 methodName,
                 employeeNumber,
-                maskingArgs,
-                maskingResult,
+                args,
+                result,
                 duration
         );
 
-        String jsonData = objectMapper.writeValueAsString(successLog);
-        log.info(jsonData);
+        logEventWriter.write(successLog, null);
 
         return result;
     }
-
-    private Object[] makeMaskingData(Object[] args) {
-        return Arrays.stream(args)
-                .map(this::makeMaskingObject)
-                .toArray();
-    }
-
-    private Object makeMaskingObject(Object arg) {
-        if (arg == null) {
-            return null;
-        }
-
-        if (arg instanceof MemberRegisterDto dto) {
-            return new MemberRegisterDto(
-                    dto.getEmployeeNumber(),
-                    "**********",
-                    dto.getName(),
-                    makeMaskingEmail(dto.getEmail()),
-                    makeMaskingPhoneNumber(dto.getPhoneNumber()),
-                    dto.getPosition(),
-                    dto.getDepartmentId()
-            );
-        } else if (arg instanceof MemberUpdateDto dto) {
-            return new MemberUpdateDto(
-                    makeMaskingEmail(dto.getEmail()),
-                    makeMaskingPhoneNumber(dto.getPhoneNumber()),
-                    dto.getPosition(),
-                    dto.getDepartmentId()
-            );
-        } else if (arg instanceof PasswordUpdateDto) {
-            return new PasswordUpdateDto(
-                    "**********"
-            );
-        } else if (arg instanceof LoginRequestDto dto) {
-            return new LoginRequestDto(
-                    dto.getEmployeeNumber(),
-                    "**********"
-            );
-        } else if (arg instanceof TokenDto dto) {
-            return new TokenDto(
-                    makeMaskingToken(dto.getAccessToken()),
-                    makeMaskingToken(dto.getRefreshToken())
-            );
-        }
-
-        return arg;
-    }
-
-    private String makeMaskingEmail(String email) {
-        if (email == null || !email.contains("@")) {
-            return email;
-        }
-
-        int idx = email.indexOf("@");
-        String prefix = email.substring(0, Math.min(3, idx));
-
-        return prefix + "****" + email.substring(idx);
-    }
-
-    private String makeMaskingPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.length() < 11) {
-            return phoneNumber;
-        }
-
-        return phoneNumber.substring(0, 3) + "****" + phoneNumber.substring(phoneNumber.length() - 4);
-    }
-
-    private String makeMaskingToken(String token) {
-        if (token == null || !token.contains(".")) {
-            return token;
-        }
-
-        return token.substring(0, 10) + "..." + token.substring(token.length() - 4);
-    }
 }
@@ -0,0 +1,63 @@
+package com.manager.taskmanager.global.log.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 다중 생산자 / 단일 소비자 고정 크기 링 버퍼 (락 없이 CAS 로 슬롯 확보)
+// 생산자는 tail 을 CAS 로 올려 슬롯을 얻고, 소비자는 슬롯을 비운 뒤 head 를 올림
+public class LogEventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public LogEventRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    // 가득 찼으면 false
+    public boolean offer(E element) {
+        while (true) {
+            long currentTail = tail.get();
+
+            if (currentTail - head.get() >= slots.length()) {
+                return false;
+            }
+
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet((int) currentTail & mask, element);
+                return true;
+            }
+        }
+    }
+
+    // 비었거나 아직 생산자가 값을 채우지 않은 슬롯이면 null (소비자 스레드에서만 호출)
+    public E poll() {
+        long currentHead = head.get();
+        int index = (int) currentHead & mask;
+        E element = slots.get(index);
+
+        if (element == null) {
+            return null;
+        }
+
+        slots.lazySet(index, null);
+        head.set(currentHead + 1);
+
+        return element;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,166 @@
+package com.manager.taskmanager.global.log.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.manager.taskmanager.global.log.dto.LogEvent;
+import com.manager.taskmanager.global.log.masking.MaskingSerializerModifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+// @SaveLogging 이벤트 기록 / 비동기 모드에서는 링 버퍼에 넣고 백그라운드 스레드가 배치로 직렬화 후 기록
+// 기존 로그와 같은 로거 이름으로 기록
+@Slf4j(topic = "com.manager.taskmanager.global.log.aop.LoggingAspect")
+@Component
+public class LogEventWriter implements SmartLifecycle {
+
+    private final ObjectMapper objectMapper;
+    private final boolean async;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final LogEventRingBuffer<PendingLogEvent> buffer;
+    private final Counter droppedCounter;
+
+    // 버퍼가 비어 워커가 대기 중인지 여부 (대기 중일 때만 생산자가 깨움)
+    private final AtomicBoolean idle = new AtomicBoolean();
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public LogEventWriter(ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${logging.async.enabled:false}") boolean async,
+                          @Value("${logging.async.buffer-size:8192}") int bufferSize,
+                          @Value("${logging.async.batch-size:256}") int batchSize,
+                          @Value("${logging.async.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        // API 응답용 ObjectMapper 는 그대로 두고 로그 전용 복사본에만 마스킹 적용
+        this.objectMapper = objectMapper.copy()
+                .registerModule(new SimpleModule().setSerializerModifier(new MaskingSerializerModifier()));
+        this.async = async;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new LogEventRingBuffer<>(bufferSize);
+        this.droppedCounter = meterRegistry.counter("logging.async.dropped");
+
+        meterRegistry.gauge("logging.async.buffer.size", buffer, LogEventRingBuffer::size);
+    }
+
+    public void write(LogEvent logEvent, Throwable throwable) {
+        PendingLogEvent pendingLogEvent = new PendingLogEvent(logEvent, throwable);
+
+        if (!async || !running) {
+            writeNow(pendingLogEvent);
+            return;
+        }
+
+        if (buffer.offer(pendingLogEvent)) {
+            if (idle.get() && idle.compareAndSet(true, false)) {
+                LockSupport.unpark(worker);
+            }
+
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            writeNow(pendingLogEvent);
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    private void writeNow(PendingLogEvent pendingLogEvent) {
+        try {
+            String jsonData = objectMapper.writeValueAsString(pendingLogEvent.logEvent());
+
+            if (pendingLogEvent.throwable() != null) {
+                log.error(jsonData, pendingLogEvent.throwable());
+            } else {
+                log.info(jsonData);
+            }
+        } catch (Exception e) {
+            log.error(">>> 로그 직렬화 중 오류가 발생하였습니다. : {} <<<", pendingLogEvent.logEvent().getEventName(), e);
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            if (writeBatch() == 0) {
+                awaitEvents();
+            }
+        }
+
+        // 종료 시 남은 이벤트 모두 기록
+        int written;
+
+        do {
+            written = writeBatch();
+        } while (written > 0);
+    }
+
+    // 유휴 상태에서 주기적으로 깨어나지 않도록 타임아웃 없이 대기 (이벤트 추가 또는 종료 시 unpark)
+    // 대기 표시 후 버퍼를 다시 확인하므로 그 사이에 들어온 이벤트의 unpark 를 놓치지 않음
+    private void awaitEvents() {
+        idle.set(true);
+
+        if (running && buffer.size() == 0) {
+            LockSupport.park(this);
+        }
+
+        idle.set(false);
+    }
+
+    private int writeBatch() {
+        int written = 0;
+        PendingLogEvent pendingLogEvent;
+
+        while (written < batchSize && (pendingLogEvent = buffer.poll()) != null) {
+            writeNow(pendingLogEvent);
+            written++;
+        }
+
+        return written;
+    }
+
+    @Override
+    public void start() {
+        if (!async || running) {
+            return;
+        }
+
+        worker = new Thread(this::drain, "async-log-writer");
+        worker.setDaemon(true);
+        running = true;
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(worker);
+
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record PendingLogEvent(LogEvent logEvent, Throwable throwable) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.manager.taskmanager.global.log.async;
+
+// 버퍼가 가득 찼을 때 처리 방식
+public enum OverflowPolicy {
+    // 이벤트 버림 (요청 지연 없음)
+    DROP,
+    // 요청 스레드에서 직접 기록 (유실 없음, 요청 지연 발생)
+    CALLER_RUNS
+}
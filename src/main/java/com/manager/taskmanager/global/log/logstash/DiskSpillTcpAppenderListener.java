@@ -0,0 +1,113 @@
+package com.manager.taskmanager.global.log.logstash;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.appender.AbstractLogstashTcpSocketAppender;
+import net.logstash.logback.appender.listener.TcpAppenderListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Logstash 로 보내지 못한 로그를 로컬 파일에 보관했다가 재연결 시 먼저 전송
+// 파일 크기는 maxSpillSize 로 제한하고, 넘치면 버린 건수만 기록
+public class DiskSpillTcpAppenderListener implements TcpAppenderListener<ILoggingEvent> {
+
+    // 링 버퍼가 가득 찬 경우 로그를 남긴 요청 스레드에서 호출되므로 synchronized 대신 사용 (파일 I/O 중 가상 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private Path spillFile = Paths.get("logs", "logstash-spill.log");
+    private long maxSpillSize = 100L * 1024 * 1024;
+
+    // 링 버퍼가 가득 차서 버려진 이벤트
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        spill(appender, event);
+    }
+
+    // 연결 실패 / 전송 실패로 버려진 이벤트
+    @Override
+    public void eventSendFailure(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        spill(appender, event);
+    }
+
+    // 재연결 직후 (새 이벤트 전송 전) 보관된 로그 전송
+    @Override
+    public void connectionOpened(Appender<ILoggingEvent> appender, Socket socket) {
+        lock.lock();
+
+        try {
+            if (!Files.exists(spillFile)) {
+                return;
+            }
+
+            try (InputStream inputStream = Files.newInputStream(spillFile)) {
+                OutputStream outputStream = socket.getOutputStream();
+                inputStream.transferTo(outputStream);
+                outputStream.flush();
+
+                Files.delete(spillFile);
+            } catch (IOException e) {
+                appender.addWarn("Failed to replay spilled log events from " + spillFile, e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void spill(Appender<ILoggingEvent> appender, ILoggingEvent event) {
+        if (!(appender instanceof AbstractLogstashTcpSocketAppender<?, ?> tcpAppender)) {
+            return;
+        }
+
+        byte[] encoded = ((Encoder<ILoggingEvent>) tcpAppender.getEncoder()).encode(event);
+
+        lock.lock();
+
+        try {
+            try {
+                long currentSize = Files.exists(spillFile) ? Files.size(spillFile) : 0;
+
+                if (currentSize + encoded.length > maxSpillSize) {
+                    droppedCount.incrementAndGet();
+                    return;
+                }
+
+                Path parent = spillFile.toAbsolutePath().getParent();
+
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+
+                Files.write(spillFile, encoded, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                droppedCount.incrementAndGet();
+                appender.addWarn("Failed to spill log event to " + spillFile, e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public void setSpillFile(String spillFile) {
+        this.spillFile = Paths.get(spillFile);
+    }
+
+    public void setMaxSpillSize(long maxSpillSize) {
+        this.maxSpillSize = maxSpillSize;
+    }
+}
@@ -0,0 +1,13 @@
+package com.manager.taskmanager.global.log.masking;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 로그 기록 시 마스킹할 필드 (API 응답에는 영향 없음)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Masked {
+    MaskingType type();
+}
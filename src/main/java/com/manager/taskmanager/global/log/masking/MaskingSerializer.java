@@ -0,0 +1,23 @@
+package com.manager.taskmanager.global.log.masking;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// 마스킹된 값을 중간 객체 없이 바로 JSON 에 기록
+public class MaskingSerializer extends StdSerializer<Object> {
+
+    private final MaskingType maskingType;
+
+    public MaskingSerializer(MaskingType maskingType) {
+        super(Object.class);
+        this.maskingType = maskingType;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(maskingType.mask(value.toString()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.manager.taskmanager.global.log.masking;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+// 클래스별 직렬화기를 처음 만들 때 한 번만 @Masked 필드를 찾아 마스킹 직렬화기 지정 (이후 Jackson 이 캐싱)
+public class MaskingSerializerModifier extends BeanSerializerModifier {
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                     BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        for (BeanPropertyWriter writer : beanProperties) {
+            Masked masked = findMasked(beanDesc.getBeanClass(), writer);
+
+            if (masked != null) {
+                writer.assignSerializer(new MaskingSerializer(masked.type()));
+            }
+        }
+
+        return beanProperties;
+    }
+
+    private Masked findMasked(Class<?> beanClass, BeanPropertyWriter writer) {
+        Masked masked = writer.getAnnotation(Masked.class);
+
+        if (masked != null) {
+            return masked;
+        }
+
+        Field field = ReflectionUtils.findField(beanClass, writer.getName());
+
+        return field != null ? field.getAnnotation(Masked.class) : null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.manager.taskmanager.global.log.masking;
+
+public enum MaskingType {
+
+    // 전체 마스킹
+    PASSWORD {
+        @Override
+        public String mask(String value) {
+            return "**********";
+        }
+    },
+
+    // 앞 3자리 + 도메인만 노출
+    EMAIL {
+        @Override
+        public String mask(String email) {
+            if (!email.contains("@")) {
+                return email;
+            }
+
+            int idx = email.indexOf("@");
+            String prefix = email.substring(0, Math.min(3, idx));
+
+            return prefix + "****" + email.substring(idx);
+        }
+    },
+
+    // 앞 3자리 + 뒤 4자리만 노출
+    PHONE_NUMBER {
+        @Override
+        public String mask(String phoneNumber) {
+            if (phoneNumber.length() < 11) {
+                return phoneNumber;
+            }
+
+            return phoneNumber.substring(0, 3) + "****" + phoneNumber.substring(phoneNumber.length() - 4);
+        }
+    },
+
+    // 앞 10자리 + 뒤 4자리만 노출
+    TOKEN {
+        @Override
+        public String mask(String token) {
+            if (!token.contains(".")) {
+                return token;
+            }
+
+            return token.substring(0, 10) + "..." + token.substring(token.length() - 4);
+        }
+    };
+
+    public abstract String mask(String value);
+}
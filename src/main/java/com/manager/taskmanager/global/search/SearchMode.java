@@ -0,0 +1,55 @@
+package com.manager.taskmanager.global.search;
+
+import com.manager.taskmanager.global.error.CustomException;
+import com.manager.taskmanager.global.error.ErrorCode;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import org.springframework.util.StringUtils;
+
+// 이름 검색 방식 (요청마다 선택, 기본 LIKE)
+public enum SearchMode {
+
+    // lower(col) like '%keyword%' (인덱스 사용 불가, 전체 스캔)
+    LIKE {
+        @Override
+        public BooleanExpression matches(StringPath path, String keyword) {
+            return path.containsIgnoreCase(keyword);
+        }
+    },
+
+    // MySQL FULLTEXT (ngram parser) 구문 검색
+    // 커밋 전 데이터는 검색되지 않으며, ngram 토큰 크기보다 짧은 검색어는 LIKE 로 처리
+    FULLTEXT {
+        @Override
+        public BooleanExpression matches(StringPath path, String keyword) {
+            String phrase = keyword.replace("\"", "").trim();
+
+            if (phrase.length() < NGRAM_TOKEN_SIZE) {
+                return LIKE.matches(path, keyword);
+            }
+
+            return Expressions.numberTemplate(Double.class,
+                            "function('" + FullTextFunctionContributor.MATCH_AGAINST + "', {0}, {1})",
+                            path, "\"" + phrase + "\"")
+                    .gt(0d);
+        }
+    };
+
+    // MySQL ngram_token_size 기본값
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    public abstract BooleanExpression matches(StringPath path, String keyword);
+
+    public static SearchMode from(String mode) {
+        if (!StringUtils.hasText(mode)) {
+            return LIKE;
+        }
+
+        try {
+            return SearchMode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_SEARCH_MODE);
+        }
+    }
+}
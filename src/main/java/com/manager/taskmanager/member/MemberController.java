@@ -40,12 +40,15 @@ public class MemberController {
             @Parameter(description = "회원 이름 필터")
             @RequestParam(required = false, defaultValue = "") String name,
 
+            @Parameter(description = "이름 검색 방식(LIKE, FULLTEXT / 기본 LIKE)")
+            @RequestParam(required = false) String searchMode,
+
             @Parameter(hidden = true)
             @AuthenticationPrincipal CustomUserDetails member
     ) {
         boolean isManager = Role.MANAGER.getValue().equals(member.getRole());
 
-        List<MemberListDto> memberList = memberService.getMemberList(departmentName, name, isManager);
+        List<MemberListDto> memberList = memberService.getMemberList(departmentName, name, searchMode, isManager);
 
         return ResponseEntity.ok(
                 ApiResult.success(HttpStatus.OK, "회원 목록을 조회했습니다.", memberList));
@@ -5,10 +5,12 @@ import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.department.DepartmentRepository;
 import com.manager.taskmanager.department.entity.Department;
 import com.manager.taskmanager.global.log.annotation.SaveLogging;
+import com.manager.taskmanager.global.search.SearchMode;
 import com.manager.taskmanager.member.dto.*;
 import com.manager.taskmanager.member.entity.Member;
 import com.manager.taskmanager.member.entity.Position;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,9 +30,9 @@ public class MemberService {
 
     // 회원 목록 조건 조회
     @Transactional(readOnly = true)
-    public List<MemberListDto> getMemberList(String departmentName, String name, boolean isManager) {
+    public List<MemberListDto> getMemberList(String departmentName, String name, String searchMode, boolean isManager) {
         List<Member> allMemberList =
-                memberQueryRepository.getAllMemberList(departmentName, name, isManager);
+                memberQueryRepository.getAllMemberList(departmentName, name, SearchMode.from(searchMode), isManager);
 
         List<MemberListDto> memberList = allMemberList.stream()
                 .map(member -> MemberListDto.from(member))
@@ -68,6 +70,7 @@ public class MemberService {
 
     // 회원 정보 수정
     @Transactional
+    @CacheEvict(value = "projectDetail", allEntries = true)
     @SaveLogging(eventName = "회원 정보 수정")
     public void updateMember(Long memberId, MemberUpdateDto dto) {
         Member member = memberRepository.findById(memberId)
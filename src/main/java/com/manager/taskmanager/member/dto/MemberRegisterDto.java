@@ -1,5 +1,7 @@
 package com.manager.taskmanager.member.dto;
 
+import com.manager.taskmanager.global.log.masking.Masked;
+import com.manager.taskmanager.global.log.masking.MaskingType;
 import com.manager.taskmanager.global.validation.ValidEnum;
 import com.manager.taskmanager.member.entity.Position;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,6 +28,7 @@ public class MemberRegisterDto {
 
     @Schema(description = "비밀번호")
     @NotBlank(message = "비밀번호는 필수 입력 값 입니다.")
+    @Masked(type = MaskingType.PASSWORD)
     private String password;
 
     @Schema(description = "이름", example = "김아무개", maxLength = 10)
@@ -36,11 +39,13 @@ public class MemberRegisterDto {
     @Email(message = "이메일 형식으로 작성해주세요.")
     @NotBlank(message = "이메일은 필수 입력 값 입니다.")
     @Length(max = 100, message = "이메일은 최대 100자 입니다.")
+    @Masked(type = MaskingType.EMAIL)
     private String email;
 
     @Schema(description = "휴대폰 번호", example = "01012341234", maxLength = 20)
     @NotBlank(message = "휴대폰 번호는 필수 입력 값 입니다.")
     @Length(max = 20, message = "휴대폰 번호는 최대 20자 입니다.")
+    @Masked(type = MaskingType.PHONE_NUMBER)
     private String phoneNumber;
 
     @Schema(description = "직급", example = "INTERN")
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Member extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memberSeqGenerator")
+    @SequenceGenerator(name = "memberSeqGenerator", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
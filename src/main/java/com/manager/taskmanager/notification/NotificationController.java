@@ -4,6 +4,9 @@ import com.manager.taskmanager.global.config.security.CustomUserDetails;
 import com.manager.taskmanager.global.response.ApiResult;
 import com.manager.taskmanager.notification.dto.NotificationDto;
 import com.manager.taskmanager.notification.dto.NotificationIdListDto;
+import com.manager.taskmanager.notification.dto.NotificationSliceDto;
+import com.manager.taskmanager.notification.dto.NotificationUpdateResultDto;
+import com.manager.taskmanager.notification.dto.UnreadCountDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,9 +15,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -23,6 +28,21 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+
+    // 알림 구독
+    @Operation(summary = "알림 구독", description = "새 알림을 SSE(text/event-stream)로 수신합니다. 목록 반복 조회 대신 사용합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "알림 구독 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자")
+    })
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        return notificationEmitterRegistry.subscribe(member.getId());
+    }
 
     // 알림 목록 조회
     @Operation(summary = "알림 목록 조회", description = "알림 목록을 조회합니다.")
@@ -41,6 +61,47 @@ public class NotificationController {
                 ApiResult.success(HttpStatus.OK, "알림 목록을 조회했습니다.", notificationList));
     }
 
+    // 알림 목록 페이지 조회
+    @Operation(summary = "알림 목록 페이지 조회", description = "알림 목록을 최신순으로 커서 페이징 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "알림 목록 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자")
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResult<NotificationSliceDto>> getNotificationSlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(value = "size", required = false) Integer size,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        NotificationSliceDto notificationSlice = notificationService.getNotificationSlice(member.getId(), cursor, size);
+
+        return ResponseEntity.ok(
+                ApiResult.success(HttpStatus.OK, "알림 목록을 조회했습니다.", notificationSlice));
+    }
+
+    // 읽지 않은 알림 수 조회
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "읽지 않은 알림 수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "읽지 않은 알림 수 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자")
+    })
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResult<UnreadCountDto>> getUnreadCount(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        UnreadCountDto unreadCount = notificationService.getUnreadCount(member.getId());
+
+        return ResponseEntity.ok(
+                ApiResult.success(HttpStatus.OK, "읽지 않은 알림 수를 조회했습니다.", unreadCount));
+    }
+
     // 알림 단건 읽음 처리
     @Operation(summary = "알림 단건 읽음 처리", description = "알림 단건을 읽음 처리합니다.")
     @ApiResponses({
@@ -83,6 +144,23 @@ public class NotificationController {
                 ApiResult.success(HttpStatus.OK, "알림 다건을 읽음 처리했습니다.", null));
     }
 
+    // 알림 전체 읽음 처리
+    @Operation(summary = "알림 전체 읽음 처리", description = "읽지 않은 알림을 모두 읽음 처리합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "알림 전체 읽음 처리 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자")
+    })
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResult<NotificationUpdateResultDto>> readAllNotifications(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        NotificationUpdateResultDto result = notificationService.readAllNotifications(member.getId());
+
+        return ResponseEntity.ok(
+                ApiResult.success(HttpStatus.OK, "알림을 모두 읽음 처리했습니다.", result));
+    }
+
     // 알림 단건 삭제
     @Operation(summary = "알림 단건 삭제", description = "알림 단건을 삭제합니다.")
     @ApiResponses({
@@ -0,0 +1,166 @@
+package com.manager.taskmanager.notification;
+
+import com.manager.taskmanager.notification.dto.NotificationDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 서버별 알림 SSE 연결 저장소 (연결은 비동기 서블릿으로 유지되어 요청 스레드를 점유하지 않음)
+// 알림 생성 시 Redis Pub/Sub 으로 모든 서버에 전파하고, 각 서버는 자신에게 연결된 회원의 알림만 조회해서 전송
+@Slf4j
+@Component
+public class NotificationEmitterRegistry implements MessageListener {
+
+    public static final String CHANNEL = "notification:created";
+    public static final String EVENT_NAME = "notification";
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final NotificationService notificationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    // 회원별 연결 (연결 순서 유지 / 추가, 제거는 compute 안에서만 수행)
+    private final Map<Long, Deque<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final long timeoutMillis;
+    private final int maxPerMember;
+
+    public NotificationEmitterRegistry(NotificationService notificationService,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       RedisMessageListenerContainer redisMessageListenerContainer,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${notification.sse.timeout:30m}") Duration timeout,
+                                       @Value("${notification.sse.max-per-member:5}") int maxPerMember) {
+        this.notificationService = notificationService;
+        this.redisTemplate = redisTemplate;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPerMember = maxPerMember;
+
+        meterRegistry.gauge("notification.sse.connections", connectionCount);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 구독 등록 (회원별 최대 연결 수 초과 시 가장 오래된 연결 종료)
+    public SseEmitter subscribe(Long memberId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        List<SseEmitter> evicted = new ArrayList<>();
+
+        emitters.compute(memberId, (id, memberEmitters) -> {
+            Deque<SseEmitter> deque = memberEmitters != null ? memberEmitters : new ConcurrentLinkedDeque<>();
+            deque.addLast(emitter);
+
+            // 초과분은 저장소에서 바로 제거 (onCompletion 은 나중에 호출되므로 기다리지 않음)
+            while (deque.size() > maxPerMember) {
+                evicted.add(deque.pollFirst());
+            }
+
+            return deque;
+        });
+
+        connectionCount.addAndGet(1 - evicted.size());
+
+        emitter.onCompletion(() -> remove(memberId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+
+        evicted.forEach(SseEmitter::complete);
+
+        // 첫 응답을 바로 보내 연결 확정 (프록시 타임아웃 방지)
+        send(memberId, emitter, SseEmitter.event().name("connect").data("connected"));
+
+        return emitter;
+    }
+
+    // 알림 생성 전파 (배치 완료 시 호출)
+    public void publishCreated(LocalDate createdDate) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, createdDate.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 클라이언트는 다음 접속 때 목록 조회로 확인
+            log.error(">>> 알림 생성 전파 실패 : {} <<<", createdDate, e);
+        }
+    }
+
+    // 이 서버에 연결된 회원의 해당 날짜 알림만 조회해서 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        LocalDate createdDate = LocalDate.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        List<Long> memberIds = new ArrayList<>(emitters.keySet());
+
+        for (int i = 0; i < memberIds.size(); i += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(i, Math.min(i + QUERY_CHUNK_SIZE, memberIds.size()));
+
+            notificationService.getNotificationsByDate(chunk, createdDate)
+                    .forEach(this::sendToMember);
+        }
+    }
+
+    // 연결 유지용 주석 이벤트 (끊어진 연결 정리)
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval:30000}")
+    public void heartbeat() {
+        emitters.forEach((memberId, memberEmitters) ->
+                memberEmitters.forEach(emitter -> send(memberId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void sendToMember(Long memberId, NotificationDto.NotificationInfo notificationInfo) {
+        Deque<SseEmitter> memberEmitters = emitters.get(memberId);
+
+        if (memberEmitters == null) {
+            return;
+        }
+
+        memberEmitters.forEach(emitter -> send(memberId, emitter, SseEmitter.event()
+                .id(String.valueOf(notificationInfo.getNotificationId()))
+                .name(EVENT_NAME)
+                .data(notificationInfo)));
+    }
+
+    private void send(Long memberId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊어진 연결
+            remove(memberId, emitter);
+            emitter.complete();
+        }
+    }
+
+    private void remove(Long memberId, SseEmitter emitter) {
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            if (memberEmitters.remove(emitter)) {
+                connectionCount.decrementAndGet();
+            }
+
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
+    }
+}
@@ -1,18 +1,86 @@
 package com.manager.taskmanager.notification;
 
+import com.manager.taskmanager.notification.dto.MemberUnreadCountDto;
 import com.manager.taskmanager.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findAllByMemberIdOrderByCreatedDateDesc(Long memberId);
+
+    // 알림 목록 첫 페이지 (생성일, ID 역순 / 유니크 인덱스 (member_id, created_date) + PK 사용)
+    @Query("select n from Notification n where n.member.id = :memberId " +
+            "order by n.createdDate desc, n.id desc")
+    Slice<Notification> findSlice(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 알림 목록 다음 페이지 (커서 이후)
+    @Query("select n from Notification n where n.member.id = :memberId " +
+            "and (n.createdDate < :createdDate or (n.createdDate = :createdDate and n.id < :id)) " +
+            "order by n.createdDate desc, n.id desc")
+    Slice<Notification> findSliceAfter(@Param("memberId") Long memberId,
+                                       @Param("createdDate") LocalDate createdDate,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
     Notification findByIdAndMemberId(Long notificationId, Long memberId);
-    List<Notification> findAllByIdInAndMemberId(List<Long> notificationIdList, Long memberId);
+    List<Notification> findAllByMemberIdInAndCreatedDate(Collection<Long> memberIds, LocalDate createdDate);
+
+    @Query("select count(n) from Notification n where n.member.id = :memberId and n.isRead = false")
+    long countUnread(@Param("memberId") Long memberId);
+
+    @Query("select count(n) from Notification n where n.member.id = :memberId and n.id in :notificationIds")
+    long countByMemberIdAndIds(@Param("memberId") Long memberId,
+                               @Param("notificationIds") Collection<Long> notificationIds);
+
+    @Query("select count(n) from Notification n " +
+            "where n.member.id = :memberId and n.id in :notificationIds and n.isRead = false")
+    long countUnreadByMemberIdAndIds(@Param("memberId") Long memberId,
+                                     @Param("notificationIds") Collection<Long> notificationIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true " +
+            "where n.member.id = :memberId and n.id in :notificationIds and n.isRead = false")
+    int markAsReadByIds(@Param("memberId") Long memberId,
+                        @Param("notificationIds") Collection<Long> notificationIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true where n.member.id = :memberId and n.isRead = false")
+    int markAllAsRead(@Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Notification n where n.member.id = :memberId and n.id in :notificationIds")
+    int deleteByMemberIdAndIds(@Param("memberId") Long memberId,
+                               @Param("notificationIds") Collection<Long> notificationIds);
+
+    @Query("select new com.manager.taskmanager.notification.dto.MemberUnreadCountDto(n.member.id, count(n)) " +
+            "from Notification n " +
+            "where n.member.id in :memberIds and n.isRead = false " +
+            "group by n.member.id")
+    List<MemberUnreadCountDto> countUnreadByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    @Query("select n.member.id from Notification n where n.createdDate = :createdDate")
+    List<Long> findMemberIdsByCreatedDate(@Param("createdDate") LocalDate createdDate);
+
+    @Query("select n.member.id from Notification n where n.member.id in :memberIds and n.createdDate = :createdDate")
+    List<Long> findMemberIdsByCreatedDate(@Param("memberIds") Collection<Long> memberIds,
+                                          @Param("createdDate") LocalDate createdDate);
 
-    @Query("select n.id from Notification n where n.isRead = true and n.createdDate < :date")
-    List<Long> findOldReadNotifications(@Param("date")LocalDate date);
-}
\ No newline at end of file
+    @Modifying
+    @Query(value = "insert into notifications (member_id, message, is_read, created_date) " +
+            "select c.member_id, concat(:date, ' - 오늘 마감해야 할 업무가 ', c.task_count, '건 있습니다.'), false, :today " +
+            "from member_deadline_counts c " +
+            "join members m on c.member_id = m.id " +
+            "where c.deadline_date = :today " +
+            "and c.task_count > 0 " +
+            "and m.deleted_at is null " +
+            "on duplicate key update notifications.id = notifications.id",
+            nativeQuery = true)
+    int insertDueTodayNotifications(@Param("today") LocalDate today, @Param("date") String date);
+}
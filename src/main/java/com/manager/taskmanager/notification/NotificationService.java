@@ -4,19 +4,37 @@ import com.manager.taskmanager.global.error.CustomException;
 import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.notification.dto.NotificationDto;
 import com.manager.taskmanager.notification.dto.NotificationIdListDto;
+import com.manager.taskmanager.notification.dto.NotificationSliceDto;
+import com.manager.taskmanager.notification.dto.NotificationUpdateResultDto;
+import com.manager.taskmanager.notification.dto.UnreadCountDto;
 import com.manager.taskmanager.notification.entity.Notification;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     // 알림 목록 조회
     @Transactional(readOnly = true)
@@ -26,6 +44,51 @@ public class NotificationService {
         return NotificationDto.of(notificationList);
     }
 
+    // 알림 목록 페이지 조회 (생성일, ID 기준 커서 페이징)
+    @Transactional(readOnly = true)
+    public NotificationSliceDto getNotificationSlice(Long memberId, String cursor, Integer size) {
+        Pageable pageable = PageRequest.of(0, getPageSize(size));
+
+        Slice<Notification> slice;
+
+        if (StringUtils.hasText(cursor)) {
+            String[] decoded = decodeCursor(cursor);
+
+            slice = notificationRepository.findSliceAfter(
+                    memberId, LocalDate.parse(decoded[0]), Long.parseLong(decoded[1]), pageable);
+        } else {
+            slice = notificationRepository.findSlice(memberId, pageable);
+        }
+
+        List<NotificationDto.NotificationInfo> notificationList = slice.getContent().stream()
+                .map(NotificationDto.NotificationInfo::of)
+                .toList();
+
+        String nextCursor = null;
+
+        if (slice.hasNext()) {
+            Notification last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = encodeCursor(last.getCreatedDate(), last.getId());
+        }
+
+        return new NotificationSliceDto(notificationList, slice.hasNext(), nextCursor);
+    }
+
+    // 읽지 않은 알림 수 조회 (Redis 카운터, 없으면 DB 기준으로 생성)
+    @Transactional(readOnly = true)
+    public UnreadCountDto getUnreadCount(Long memberId) {
+        long unreadCount = unreadNotificationCounter.get(memberId, () -> notificationRepository.countUnread(memberId));
+
+        return new UnreadCountDto(unreadCount);
+    }
+
+    // 회원별 해당 날짜 알림 조회 (SSE 전송용)
+    @Transactional(readOnly = true)
+    public Map<Long, NotificationDto.NotificationInfo> getNotificationsByDate(Collection<Long> memberIds, LocalDate createdDate) {
+        return notificationRepository.findAllByMemberIdInAndCreatedDate(memberIds, createdDate).stream()
+                .collect(Collectors.toMap(n -> n.getMember().getId(), NotificationDto.NotificationInfo::of));
+    }
+
     // 알림 단건 읽음 처리
     @Transactional
     public void readNotification(Long memberId, Long notificationId) {
@@ -37,27 +100,30 @@ public class NotificationService {
 
         if (!notification.isRead()) {
             notification.markAsRead();
+            unreadNotificationCounter.decrement(memberId, 1);
         }
     }
 
-    // 알림 다건 읽음 처리
+    // 알림 다건 읽음 처리 (엔티티 조회 없이 UPDATE 한 번으로 처리)
     @Transactional
     public void readNotifications(Long memberId, NotificationIdListDto dto) {
-        List<Long> notificationIdList = dto.getNotificationIdList().stream()
-                .map(m -> m.getNotificationId())
-                .collect(Collectors.toList());
+        Set<Long> notificationIds = getNotificationIds(dto);
 
-        List<Notification> notificationList = notificationRepository.findAllByIdInAndMemberId(notificationIdList, memberId);
+        checkNotificationsExist(memberId, notificationIds);
 
-        if (notificationIdList.size() != notificationList.size()) {
-            throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
-        }
+        int readCount = notificationRepository.markAsReadByIds(memberId, notificationIds);
 
-        for (Notification notification : notificationList) {
-            if (!notification.isRead()) {
-                notification.markAsRead();
-            }
-        }
+        unreadNotificationCounter.decrement(memberId, readCount);
+    }
+
+    // 알림 전체 읽음 처리
+    @Transactional
+    public NotificationUpdateResultDto readAllNotifications(Long memberId) {
+        int readCount = notificationRepository.markAllAsRead(memberId);
+
+        unreadNotificationCounter.decrement(memberId, readCount);
+
+        return new NotificationUpdateResultDto(readCount);
     }
 
     // 알림 단건 삭제
@@ -70,22 +136,68 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+
+        if (!notification.isRead()) {
+            unreadNotificationCounter.decrement(memberId, 1);
+        }
     }
 
-    // 알림 다건 삭제
+    // 알림 다건 삭제 (엔티티 조회 없이 DELETE 한 번으로 처리)
     @Transactional
     public void deleteNotifications(Long memberId, NotificationIdListDto dto) {
-        List<Long> notificationIdList = dto.getNotificationIdList().stream()
-                .map(m -> m.getNotificationId())
-                .collect(Collectors.toList());
+        Set<Long> notificationIds = getNotificationIds(dto);
 
-        List<Notification> notificationList = notificationRepository.findAllByIdInAndMemberId(notificationIdList, memberId);
+        checkNotificationsExist(memberId, notificationIds);
 
-        if (notificationIdList.size() != notificationList.size()) {
-            throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
+        long unreadCount = notificationRepository.countUnreadByMemberIdAndIds(memberId, notificationIds);
+
+        notificationRepository.deleteByMemberIdAndIds(memberId, notificationIds);
+
+        unreadNotificationCounter.decrement(memberId, unreadCount);
+    }
+
+    // 페이지 크기 보정
+    private int getPageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
         }
 
-        notificationRepository.deleteAll(notificationList);
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 커서 토큰 ("생성일:ID" 를 Base64 URL 인코딩)
+    private String encodeCursor(LocalDate createdDate, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdDate + ":" + id).getBytes(StandardCharsets.UTF_8));
     }
 
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+
+            if (decoded.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            LocalDate.parse(decoded[0]);
+            Long.parseLong(decoded[1]);
+
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private Set<Long> getNotificationIds(NotificationIdListDto dto) {
+        return dto.getNotificationIdList().stream()
+                .map(NotificationIdListDto.NotificationIdDto::getNotificationId)
+                .collect(Collectors.toSet());
+    }
+
+    // 요청한 알림이 모두 회원의 알림인지 확인 (건수만 비교)
+    private void checkNotificationsExist(Long memberId, Set<Long> notificationIds) {
+        if (notificationRepository.countByMemberIdAndIds(memberId, notificationIds) != notificationIds.size()) {
+            throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
+        }
+    }
 }
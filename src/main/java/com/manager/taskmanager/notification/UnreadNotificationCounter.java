@@ -0,0 +1,151 @@
+package com.manager.taskmanager.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 회원별 읽지 않은 알림 수 (Redis)
+// 키는 처음 조회할 때 DB 기준으로 생성하고, 키가 있을 때만 증감 (없는 키를 증감해 잘못된 값이 생기지 않도록)
+// 증감은 커밋 후 반영, 어긋난 값은 재동기화 스케줄러가 DB 기준으로 보정
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    public static final String KEY_PREFIX = "notification:unread:";
+
+    // 키가 있을 때만 증가
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  return redis.call('incrby', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return -1", Long.class);
+
+    // 키가 있을 때만 감소 (0 미만으로 내려가지 않음, TTL 유지)
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  local value = redis.call('decrby', KEYS[1], ARGV[1]) " +
+            "  if value < 0 then " +
+            "    value = redis.call('incrby', KEYS[1], -value) " +
+            "  end " +
+            "  return value " +
+            "end " +
+            "return -1", Long.class);
+
+    // 조회 시점 값과 같을 때만 보정 (그 사이 증감된 경우 다음 재동기화에서 보정)
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public UnreadNotificationCounter(RedisTemplate<String, String> redisTemplate,
+                                     @Value("${notification.unread-counter.ttl:7d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    // 읽지 않은 알림 수 조회 (키가 없으면 DB 기준으로 생성)
+    public long get(Long memberId, Supplier<Long> loader) {
+        String key = key(memberId);
+
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+        } catch (Exception e) {
+            log.error(">>> 읽지 않은 알림 수 조회 실패 : {} <<<", memberId, e);
+
+            return loader.get();
+        }
+
+        long count = loader.get();
+
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        } catch (Exception e) {
+            log.error(">>> 읽지 않은 알림 수 저장 실패 : {} <<<", memberId, e);
+        }
+
+        return count;
+    }
+
+    // 여러 회원 1씩 증가 (파이프라인으로 한 번에 전송)
+    // 파이프라인에서는 EVALSHA 의 NOSCRIPT 오류를 받아 EVAL 로 재시도할 수 없으므로 스크립트 본문을 EVAL 로 전송
+    public void incrementAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisSerializer<String> serializer = RedisSerializer.string();
+            byte[] script = serializer.serialize(INCREMENT_SCRIPT.getScriptAsString());
+            byte[] delta = serializer.serialize("1");
+
+            for (Long memberId : memberIds) {
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, serializer.serialize(key(memberId)), delta);
+            }
+
+            return null;
+        }));
+    }
+
+    public void decrement(Long memberId, long delta) {
+        if (delta > 0) {
+            afterCommit(() -> redisTemplate.execute(DECREMENT_SCRIPT, List.of(key(memberId)), String.valueOf(delta)));
+        }
+    }
+
+    // 재동기화 (조회 시점 값 expected 가 그대로일 때만 DB 값으로 보정)
+    public boolean compareAndSet(Long memberId, String expected, long actual) {
+        Long result = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(key(memberId)),
+                expected, String.valueOf(actual), String.valueOf(ttl.toMillis()));
+
+        return result != null && result == 1L;
+    }
+
+    public static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    // 트랜잭션 안이면 커밋 후 반영 (롤백 시 반영하지 않음), Redis 오류는 요청을 실패시키지 않음
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error(">>> 읽지 않은 알림 수 반영 실패 <<<", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
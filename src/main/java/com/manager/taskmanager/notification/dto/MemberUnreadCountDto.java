@@ -0,0 +1,17 @@
+package com.manager.taskmanager.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 회원별 읽지 않은 알림 수 (카운터 재동기화용)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberUnreadCountDto {
+
+    private Long memberId;
+    private Long unreadCount;
+}
@@ -0,0 +1,25 @@
+package com.manager.taskmanager.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "알림 목록 페이지 Response DTO")
+public class NotificationSliceDto {
+
+    private List<NotificationDto.NotificationInfo> notificationList;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (다음 요청의 cursor 로 전달, 마지막 페이지면 null)")
+    private String nextCursor;
+}
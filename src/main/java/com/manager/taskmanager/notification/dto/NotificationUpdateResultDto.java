@@ -0,0 +1,18 @@
+package com.manager.taskmanager.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "알림 처리 결과 Response DTO")
+public class NotificationUpdateResultDto {
+
+    @Schema(description = "처리된 알림 수", example = "5")
+    private int affectedCount;
+}
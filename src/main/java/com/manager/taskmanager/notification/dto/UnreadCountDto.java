@@ -0,0 +1,18 @@
+package com.manager.taskmanager.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "읽지 않은 알림 수 Response DTO")
+public class UnreadCountDto {
+
+    @Schema(description = "읽지 않은 알림 수", example = "3")
+    private long unreadCount;
+}
@@ -14,7 +14,8 @@ import java.time.LocalDate;
 @Table(name = "notifications",
     uniqueConstraints = @UniqueConstraint(
             columnNames = {"member_id", "created_date"}
-    )
+    ),
+    indexes = @Index(name = "idx_notifications_read_created_date", columnList = "is_read, created_date")
 )
 public class Notification {
 
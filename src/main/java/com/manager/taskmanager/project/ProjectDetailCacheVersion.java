@@ -0,0 +1,61 @@
+package com.manager.taskmanager.project;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 프로젝트 상세 캐시 버전 (Redis)
+// 캐시 키에 버전을 포함하고 변경 시 커밋 후 버전을 올려서, 변경 전에 조회를 시작한 요청이 이전 데이터를 늦게 저장해도
+// 새 버전 키로 조회하는 이후 요청에는 보이지 않도록 함 (이전 버전 항목은 TTL 로 만료)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectDetailCacheVersion {
+
+    public static final String KEY_PREFIX = "project:detail:version:";
+
+    // 캐시 TTL 보다 길게 유지 (버전이 만료되어 0 으로 돌아가도 같은 버전의 이전 항목은 이미 만료된 상태)
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 현재 버전 조회 (없으면 0)
+    public String get(Long projectId) {
+        String version = redisTemplate.opsForValue().get(key(projectId));
+
+        return version == null ? "0" : version;
+    }
+
+    // 트랜잭션 안이면 커밋 후 버전 증가 (롤백 시 반영하지 않음)
+    public void increase(Long projectId) {
+        Runnable action = () -> {
+            try {
+                redisTemplate.opsForValue().increment(key(projectId));
+                redisTemplate.expire(key(projectId), TTL);
+            } catch (Exception e) {
+                log.error(">>> 프로젝트 상세 캐시 버전 증가 실패 : {} <<<", projectId, e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public static String key(Long projectId) {
+        return KEY_PREFIX + projectId;
+    }
+}
@@ -1,19 +1,24 @@
 package com.manager.taskmanager.project;
 
 import com.manager.taskmanager.department.entity.QDepartment;
+import com.manager.taskmanager.global.search.SearchMode;
 import com.manager.taskmanager.member.entity.QMember;
 import com.manager.taskmanager.project.dto.ProjectDetailDto;
+import com.manager.taskmanager.project.dto.ProjectListDto;
 import com.manager.taskmanager.project.dto.ProjectSearchCondition;
 import com.manager.taskmanager.project.entity.Project;
 import com.manager.taskmanager.project.entity.ProjectStatus;
 import com.manager.taskmanager.project.entity.QProject;
 import com.manager.taskmanager.projectmember.entity.QProjectMember;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -25,65 +30,116 @@ public class ProjectQueryRepository {
         this.jpaQueryFactory = jpaQueryFactory;
     }
 
-    public List<Project> getProjectList(ProjectSearchCondition condition) {
+    // 프로젝트 목록 조회 (ID 기준 커서 페이징 / limit 건수만큼 조회)
+    // 멤버 이름 조건은 일치하는 회원 ID 를 먼저 조회한 뒤 project_members 세미 조인으로 필터링
+    public List<ProjectListDto.ProjectInfo> getProjectList(ProjectSearchCondition condition, int limit) {
         QProject project = QProject.project;
+        QProjectMember pm = QProjectMember.projectMember;
 
         BooleanBuilder builder = new BooleanBuilder();
+        SearchMode searchMode = SearchMode.from(condition.getSearchMode());
 
         if (StringUtils.hasText(condition.getProjectName())) {
-            builder.and(project.projectName.containsIgnoreCase(condition.getProjectName()));
+            builder.and(searchMode.matches(project.projectName, condition.getProjectName()));
         }
 
         if (StringUtils.hasText(condition.getMemberName())) {
-            builder.and(project.projectMembers.any().member.name.containsIgnoreCase(condition.getMemberName()));
+            List<Long> memberIds = getMemberIdsByName(condition.getMemberName(), searchMode);
+
+            if (memberIds.isEmpty()) {
+                return List.of();
+            }
+
+            builder.and(project.id.in(
+                    JPAExpressions
+                            .select(pm.project.id)
+                            .from(pm)
+                            .where(pm.member.id.in(memberIds))
+            ));
         }
 
         if (StringUtils.hasText(condition.getProjectStatus())) {
             builder.and(project.projectStatus.eq(ProjectStatus.valueOf(condition.getProjectStatus())));
         }
 
+        if (condition.getLastProjectId() != null) {
+            builder.and(project.id.gt(condition.getLastProjectId()));
+        }
+
         return jpaQueryFactory
-                .selectFrom(project)
+                .select(Projections.constructor(ProjectListDto.ProjectInfo.class,
+                        project.id,
+                        project.projectName,
+                        project.startDate,
+                        project.endDate,
+                        project.projectStatus,
+                        project.deletedAt
+                ))
+                .from(project)
                 .where(builder)
+                .orderBy(project.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    // 이름 조건에 일치하는 회원 ID 조회
+    private List<Long> getMemberIdsByName(String memberName, SearchMode searchMode) {
+        QMember member = QMember.member;
+
+        return jpaQueryFactory
+                .select(member.id)
+                .from(member)
+                .where(searchMode.matches(member.name, memberName))
+                .fetch();
+    }
+
+    // 프로젝트 상세 조회 (프로젝트 + 멤버 목록을 한 번의 쿼리로 조회 / 프로젝트가 없으면 null)
     public ProjectDetailDto getProjectDetail(Long projectId) {
         QProject p = QProject.project;
         QProjectMember pm = QProjectMember.projectMember;
         QMember m = QMember.member;
         QDepartment dept = QDepartment.department;
 
-        Project project = jpaQueryFactory
-                .selectFrom(p)
+        List<Tuple> rows = jpaQueryFactory
+                .select(p.projectName, p.startDate, p.endDate, p.projectStatus, p.deletedAt,
+                        m.id, m.name, m.phoneNumber, pm.startDate, pm.endDate,
+                        pm.projectMemberStatus, pm.projectRole, m.position, dept.departmentName)
+                .from(p)
+                .leftJoin(p.projectMembers, pm)
+                .leftJoin(pm.member, m)
+                .leftJoin(m.department, dept)
                 .where(p.id.eq(projectId))
-                .fetchOne();
-
-        List<ProjectDetailDto.MemberInfo> memberList = jpaQueryFactory
-                .select(Projections.constructor(ProjectDetailDto.MemberInfo.class,
-                        m.id,
-                        m.name,
-                        m.phoneNumber,
-                        pm.startDate,
-                        pm.endDate,
-                        pm.projectMemberStatus,
-                        pm.projectRole,
-                        m.position,
-                        dept.departmentName
-                ))
-                .from(pm)
-                .join(pm.member, m)
-                .join(m.department, dept)
-                .where(pm.project.id.eq(projectId))
+                .orderBy(pm.id.asc())
                 .fetch();
 
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        List<ProjectDetailDto.MemberInfo> memberList = rows.stream()
+                .filter(row -> row.get(m.id) != null)
+                .map(row -> new ProjectDetailDto.MemberInfo(
+                        row.get(m.id),
+                        row.get(m.name),
+                        row.get(m.phoneNumber),
+                        row.get(pm.startDate),
+                        row.get(pm.endDate),
+                        row.get(pm.projectMemberStatus),
+                        row.get(pm.projectRole),
+                        row.get(m.position),
+                        row.get(dept.departmentName)
+                ))
+                .toList();
+
+        Tuple project = rows.get(0);
+
         return new ProjectDetailDto(
-                project.getProjectName(),
-                project.getStartDate(),
-                project.getEndDate(),
-                project.getProjectStatus().name(),
-                project.getDeletedAt(),
-                memberList
+                project.get(p.projectName),
+                project.get(p.startDate),
+                project.get(p.endDate),
+                project.get(p.projectStatus).name(),
+                project.get(p.deletedAt),
+                new ArrayList<>(memberList)
         );
     }
 }
@@ -12,20 +12,25 @@ import com.manager.taskmanager.projectmember.ProjectMemberUtilService;
 import com.manager.taskmanager.projectmember.entity.ProjectMember;
 import com.manager.taskmanager.projectmember.entity.ProjectRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProjectRepository projectRepository;
     private final ProjectQueryRepository projectQueryRepository;
     private final MemberService memberService;
     private final ProjectMemberUtilService pmUtilService;
+    private final ProjectDetailCacheVersion projectDetailCacheVersion;
 
     // 프로젝트 생성 및 담당자 할당
     @Transactional
@@ -59,6 +64,7 @@ public class ProjectService {
     @SaveLogging(eventName = "프로젝트 수정")
     public void updateProject(Long memberId, Long projectId, ProjectUpdateDto dto) {
         ProjectMember projectMember = pmUtilService.getProjectMemberAndCheckLeader(memberId, projectId);
+        projectDetailCacheVersion.increase(projectId);
 
         Project project = projectMember.getProject();
 
@@ -70,31 +76,38 @@ public class ProjectService {
         );
     }
 
-    // 프로젝트 목록 조회(조건 : 프로젝트명, 소속된 멤버 이름, 프로젝트 상태)
+    // 프로젝트 목록 조회(조건 : 프로젝트명, 소속된 멤버 이름, 프로젝트 상태 / ID 기준 커서 페이징)
     @Transactional(readOnly = true)
     public ProjectListDto getProjectList(ProjectSearchCondition condition) {
-        List<Project> projectList = projectQueryRepository.getProjectList(condition);
-
-        List<ProjectListDto.ProjectInfo> projectInfo = projectList.stream()
-                .map(project -> new ProjectListDto.ProjectInfo(
-                        project.getProjectName(),
-                        project.getStartDate(),
-                        project.getEndDate(),
-                        project.getProjectStatus().name(),
-                        project.getDeletedAt()))
-                .collect(Collectors.toList());
-
-        return new ProjectListDto(projectInfo);
+        int size = getPageSize(condition.getSize());
+
+        List<ProjectListDto.ProjectInfo> projectInfoList =
+                new ArrayList<>(projectQueryRepository.getProjectList(condition, size + 1));
+
+        boolean hasNext = projectInfoList.size() > size;
+
+        if (hasNext) {
+            projectInfoList.remove(size);
+        }
+
+        Long lastProjectId = projectInfoList.isEmpty()
+                ? null
+                : projectInfoList.get(projectInfoList.size() - 1).getProjectId();
+
+        return new ProjectListDto(projectInfoList, hasNext, lastProjectId);
     }
 
-    // 프로젝트 상세 조회
+    // 프로젝트 상세 조회 (캐시 키에 프로젝트별 버전 포함)
     @Transactional(readOnly = true)
+    @Cacheable(value = "projectDetail", key = "#projectId + ':' + @projectDetailCacheVersion.get(#projectId)")
     public ProjectDetailDto getProjectDetail(Long projectId) {
-        if (!projectRepository.existsById(projectId)) {
+        ProjectDetailDto projectDetail = projectQueryRepository.getProjectDetail(projectId);
+
+        if (projectDetail == null) {
             throw new CustomException(ErrorCode.PROJECT_NOT_FOUND);
         }
 
-        return projectQueryRepository.getProjectDetail(projectId);
+        return projectDetail;
     }
 
     // 프로젝트 삭제
@@ -111,5 +124,15 @@ public class ProjectService {
         }
 
         projectRepository.delete(project);
+        projectDetailCacheVersion.increase(projectId);
+    }
+
+    // 페이지 크기 보정
+    private int getPageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 }
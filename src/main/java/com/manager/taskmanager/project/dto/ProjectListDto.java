@@ -1,5 +1,6 @@
 package com.manager.taskmanager.project.dto;
 
+import com.manager.taskmanager.project.entity.ProjectStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,6 +22,12 @@ public class ProjectListDto {
     @Schema(description = "프로젝트 목록")
     List<ProjectInfo> projectList = new ArrayList<>();
 
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 마지막 프로젝트 ID(커서)")
+    private Long lastProjectId;
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -28,6 +35,9 @@ public class ProjectListDto {
     @Schema(description = "프로젝트 목록 정보 Response DTO")
     public static class ProjectInfo {
 
+        @Schema(description = "프로젝트 ID")
+        private Long projectId;
+
         @Schema(description = "프로젝트명")
         private String projectName;
 
@@ -42,5 +52,15 @@ public class ProjectListDto {
 
         @Schema(description = "삭제일자")
         private LocalDateTime deletedAt;
+
+        public ProjectInfo(Long projectId, String projectName, LocalDate startDate, LocalDate endDate,
+                           ProjectStatus projectStatus, LocalDateTime deletedAt) {
+            this.projectId = projectId;
+            this.projectName = projectName;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.projectStatus = projectStatus.name();
+            this.deletedAt = deletedAt;
+        }
     }
 }
@@ -21,4 +21,19 @@ public class ProjectSearchCondition {
 
     @Schema(description = "프로젝트 상태", example = "PENDING")
     private String projectStatus;
+
+    @Schema(description = "이름 검색 방식(LIKE, FULLTEXT / 기본 LIKE)", example = "FULLTEXT")
+    private String searchMode;
+
+    @Schema(description = "이전 페이지 마지막 프로젝트 ID(커서)", example = "1")
+    private Long lastProjectId;
+
+    @Schema(description = "페이지 크기(기본 20, 최대 100)", example = "20")
+    private Integer size;
+
+    public ProjectSearchCondition(String projectName, String memberName, String projectStatus) {
+        this.projectName = projectName;
+        this.memberName = memberName;
+        this.projectStatus = projectStatus;
+    }
 }
@@ -22,7 +22,8 @@ import java.util.List;
 public class Project extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projectSeqGenerator")
+    @SequenceGenerator(name = "projectSeqGenerator", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
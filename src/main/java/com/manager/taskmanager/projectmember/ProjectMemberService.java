@@ -5,12 +5,14 @@ import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.global.log.annotation.SaveLogging;
 import com.manager.taskmanager.member.MemberService;
 import com.manager.taskmanager.member.entity.Member;
+import com.manager.taskmanager.project.ProjectDetailCacheVersion;
 import com.manager.taskmanager.project.entity.Project;
 import com.manager.taskmanager.projectmember.dto.ProjectMemberRegisterDto;
 import com.manager.taskmanager.projectmember.dto.ProjectMemberUpdateDto;
 import com.manager.taskmanager.projectmember.entity.ProjectMember;
 import com.manager.taskmanager.projectmember.entity.ProjectRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,12 +31,15 @@ public class ProjectMemberService {
 
     private final MemberService memberService;
     private final ProjectMemberUtilService pmUtilService;
+    private final ProjectDetailCacheVersion projectDetailCacheVersion;
 
     // 프로젝트 멤버 추가
     @Transactional
     @SaveLogging(eventName = "프로젝트 멤버 추가")
     public void addProjectMember(Long memberId, Long projectId, ProjectMemberRegisterDto dto) {
         ProjectMember projectMember = pmUtilService.getProjectMemberAndCheckLeader(memberId, projectId);
+        projectDetailCacheVersion.increase(projectId);
+
         Project project = projectMember.getProject();
 
         List<Long> memberIds = dto.getProjectMemberDtoList().stream()
@@ -83,9 +88,11 @@ public class ProjectMemberService {
 
     // 프로젝트 멤버 삭제(soft delete)
     @Transactional
+    @CacheEvict(value = ProjectMemberUtilService.ROLE_CACHE, key = "#memberId + ':' + #projectId")
     @SaveLogging(eventName = "프로젝트 멤버 삭제")
     public void deleteProjectMember(Long loginId, Long projectId, Long memberId) {
         pmUtilService.getProjectMemberAndCheckLeader(loginId, projectId);
+        projectDetailCacheVersion.increase(projectId);
 
         ProjectMember projectMember = pmUtilService.getProjectMember(memberId, projectId);
 
@@ -94,9 +101,11 @@ public class ProjectMemberService {
 
     // 프로젝트 멤버 정보 변경
     @Transactional
+    @CacheEvict(value = ProjectMemberUtilService.ROLE_CACHE, key = "#memberId + ':' + #projectId")
     @SaveLogging(eventName = "프로젝트 멤버 정보 변경")
     public void updateProjectMember(Long loginId, Long projectId, Long memberId, ProjectMemberUpdateDto dto) {
         pmUtilService.getProjectMemberAndCheckLeader(loginId, projectId);
+        projectDetailCacheVersion.increase(projectId);
 
         ProjectMember projectMember = pmUtilService.getProjectMember(memberId, projectId);
 
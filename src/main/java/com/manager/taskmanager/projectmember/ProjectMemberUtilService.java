@@ -2,21 +2,47 @@ package com.manager.taskmanager.projectmember;
 
 import com.manager.taskmanager.global.error.CustomException;
 import com.manager.taskmanager.global.error.ErrorCode;
+import com.manager.taskmanager.projectmember.dto.ProjectMemberRoleDto;
 import com.manager.taskmanager.projectmember.entity.ProjectMember;
-import lombok.RequiredArgsConstructor;
+import com.manager.taskmanager.projectmember.entity.ProjectMemberStatus;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
-@RequiredArgsConstructor
 @Component
 public class ProjectMemberUtilService {
 
+    public static final String ROLE_CACHE = "projectMemberRole";
+
+    private static final int LEADER_LEVEL = 3;
+
+    // 트랜잭션별 조회 결과 저장소 키
+    private static final Object MEMO_KEY = ProjectMemberUtilService.class.getName() + ".MEMO";
+
     private final ProjectMemberQueryRepository projectMemberQueryRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final Cache roleCache;
+
+    public ProjectMemberUtilService(ProjectMemberQueryRepository projectMemberQueryRepository,
+                                    ProjectMemberRepository projectMemberRepository,
+                                    CacheManager cacheManager,
+                                    @Value("${project-member.role-cache.enabled:true}") boolean roleCacheEnabled) {
+        this.projectMemberQueryRepository = projectMemberQueryRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.roleCache = roleCacheEnabled ? cacheManager.getCache(ROLE_CACHE) : null;
+    }
 
     // 프로젝트 멤버 조회
     public ProjectMember getProjectMember(Long memberId, Long projectId) {
-        ProjectMember projectMember = projectMemberQueryRepository.getProjectMember(memberId, projectId);
+        ProjectMember projectMember = resolveProjectMember(memberId, projectId, 0);
 
         if (projectMember == null) {
             throw new CustomException(ErrorCode.PROJECT_MEMBER_NOT_FOUND);
@@ -27,9 +53,9 @@ public class ProjectMemberUtilService {
 
     // 프로젝트 권한 체크 및 조회
     public ProjectMember getProjectMemberAndCheckLeader(Long memberId, Long projectId) {
-        ProjectMember projectMember = projectMemberQueryRepository.getProjectMember(memberId, projectId);
+        ProjectMember projectMember = resolveProjectMember(memberId, projectId, LEADER_LEVEL);
 
-        if (projectMember == null || projectMember.getProjectRole().getLevel() < 3) {
+        if (projectMember == null) {
             throw new CustomException(ErrorCode.NO_PERMISSION);
         }
 
@@ -42,4 +68,101 @@ public class ProjectMemberUtilService {
             throw new CustomException(ErrorCode.INVALID_PROJECT_DATE);
         }
     }
+
+    public static String roleCacheKey(Long memberId, Long projectId) {
+        return memberId + ":" + projectId;
+    }
+
+    // 트랜잭션 내 조회 결과 -> 공유 캐시(ID, 역할 레벨) -> DB 순으로 조회 / 없거나 역할 레벨 미달이면 null
+    private ProjectMember resolveProjectMember(Long memberId, Long projectId, int requiredLevel) {
+        String key = roleCacheKey(memberId, projectId);
+        Map<String, Resolved> memo = getMemo();
+
+        Resolved resolved = memo != null ? memo.get(key) : null;
+
+        // 같은 트랜잭션에서 비활성화된 경우 (초기화되지 않은 프록시는 변경된 적이 없으므로 확인 생략)
+        if (resolved != null && Hibernate.isInitialized(resolved.projectMember())
+                && resolved.projectMember().getProjectMemberStatus() != ProjectMemberStatus.ACTIVE) {
+            memo.remove(key);
+            resolved = null;
+        }
+
+        if (resolved == null) {
+            resolved = load(key, memberId, projectId);
+
+            if (resolved == null) {
+                return null;
+            }
+
+            if (memo != null) {
+                memo.put(key, resolved);
+            }
+        }
+
+        return resolved.roleLevel() >= requiredLevel ? resolved.projectMember() : null;
+    }
+
+    private Resolved load(String key, Long memberId, Long projectId) {
+        ProjectMemberRoleDto role = roleCache != null ? roleCache.get(key, ProjectMemberRoleDto.class) : null;
+
+        // 권한 체크만 필요한 경우 조회 없이 프록시 반환
+        if (role != null) {
+            return new Resolved(projectMemberRepository.getReferenceById(role.getProjectMemberId()), role.getRoleLevel());
+        }
+
+        ProjectMember projectMember = projectMemberQueryRepository.getProjectMember(memberId, projectId);
+
+        if (projectMember == null) {
+            return null;
+        }
+
+        if (roleCache != null) {
+            roleCache.put(key, new ProjectMemberRoleDto(projectMember.getId(), projectMember.getProjectRole().getLevel()));
+        }
+
+        return new Resolved(projectMember, projectMember.getProjectRole().getLevel());
+    }
+
+    // 역할 레벨은 엔티티가 로딩된 경우 현재 값을 사용 (같은 트랜잭션에서 역할이 변경된 경우 반영)
+    private record Resolved(ProjectMember projectMember, int cachedLevel) {
+
+        int roleLevel() {
+            return Hibernate.isInitialized(projectMember) ? projectMember.getProjectRole().getLevel() : cachedLevel;
+        }
+    }
+
+    // 현재 트랜잭션에 바인딩된 조회 결과 저장소 (트랜잭션 종료 시 해제, 트랜잭션 밖에서는 null)
+    @SuppressWarnings("unchecked")
+    private Map<String, Resolved> getMemo() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<String, Resolved> memo = (Map<String, Resolved>) TransactionSynchronizationManager.getResource(MEMO_KEY);
+
+        if (memo == null) {
+            Map<String, Resolved> newMemo = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(MEMO_KEY, newMemo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // REQUIRES_NEW 등으로 트랜잭션이 일시 중단되면 내부 트랜잭션과 공유하지 않음
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MEMO_KEY);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(MEMO_KEY, newMemo);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MEMO_KEY);
+                }
+            });
+            memo = newMemo;
+        }
+
+        return memo;
+    }
 }
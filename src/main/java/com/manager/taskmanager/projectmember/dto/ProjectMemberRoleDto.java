@@ -0,0 +1,16 @@
+package com.manager.taskmanager.projectmember.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프로젝트 멤버 권한 캐시 값 (엔티티 대신 ID, 역할 레벨만 저장)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberRoleDto {
+
+    private Long projectMemberId;
+
+    private int roleLevel;
+}
@@ -20,7 +20,8 @@ import java.time.LocalDate;
 public class ProjectMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projectMemberSeqGenerator")
+    @SequenceGenerator(name = "projectMemberSeqGenerator", sequenceName = "project_members_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,30 @@
+package com.manager.taskmanager.task;
+
+import com.manager.taskmanager.task.dto.MemberDeadlineCountDto;
+import com.manager.taskmanager.task.entity.MemberDeadlineCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MemberDeadlineCountRepository extends JpaRepository<MemberDeadlineCount, Long> {
+
+    // 행이 없으면 생성, 있으면 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query(value = "insert into member_deadline_counts (member_id, deadline_date, task_count) " +
+            "values (:memberId, :deadlineDate, greatest(:delta, 0)) " +
+            "on duplicate key update task_count = greatest(task_count + :delta, 0)",
+            nativeQuery = true)
+    int addDelta(@Param("memberId") Long memberId,
+                 @Param("deadlineDate") LocalDate deadlineDate,
+                 @Param("delta") long delta);
+
+    @Query("select new com.manager.taskmanager.task.dto.MemberDeadlineCountDto(c.memberId, m.name, c.taskCount) " +
+            "from MemberDeadlineCount c join Member m on m.id = c.memberId " +
+            "where c.deadlineDate = :deadlineDate and c.taskCount > 0 and m.deletedAt is null " +
+            "order by c.taskCount desc, c.memberId asc")
+    List<MemberDeadlineCountDto> findDeadlineCounts(@Param("deadlineDate") LocalDate deadlineDate);
+}
@@ -0,0 +1,100 @@
+package com.manager.taskmanager.task;
+
+import com.manager.taskmanager.task.dto.MemberDeadlineCountDto;
+import com.manager.taskmanager.task.entity.Task;
+import com.manager.taskmanager.task.entity.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+public class MemberDeadlineCountService {
+
+    private final MemberDeadlineCountRepository memberDeadlineCountRepository;
+
+    // 업무 변경 전 상태 (변경 후와 비교해 증감)
+    public Snapshot snapshot(Task task) {
+        return new Snapshot(
+                task.getProjectMember().getMember().getId(),
+                task.getEndDate(),
+                task.getTaskStatus()
+        );
+    }
+
+    // 업무 등록
+    @Transactional
+    public void added(Task task) {
+        apply(null, snapshot(task));
+    }
+
+    // 업무 수정 / 삭제
+    @Transactional
+    public void changed(Snapshot before, Task task) {
+        apply(before, snapshot(task));
+    }
+
+    // 업무 일괄 등록 / 수정 / 삭제 (회원, 마감일별 증감을 합산해 한 번씩 반영)
+    @Transactional
+    public void changedAll(List<Snapshot> beforeList, List<Task> taskList) {
+        Map<DeadlineKey, Long> deltas = new LinkedHashMap<>();
+
+        for (int i = 0; i < taskList.size(); i++) {
+            Snapshot before = beforeList != null ? beforeList.get(i) : null;
+            Snapshot after = snapshot(taskList.get(i));
+
+            if (before != null && before.equals(after)) {
+                continue;
+            }
+
+            if (before != null && before.isOpen()) {
+                deltas.merge(new DeadlineKey(before.memberId(), before.endDate()), -1L, Long::sum);
+            }
+
+            if (after.isOpen()) {
+                deltas.merge(new DeadlineKey(after.memberId(), after.endDate()), 1L, Long::sum);
+            }
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                memberDeadlineCountRepository.addDelta(key.memberId(), key.deadlineDate(), delta);
+            }
+        });
+    }
+
+    // 마감일별 회원 업무 수 조회
+    @Transactional(readOnly = true)
+    public List<MemberDeadlineCountDto> getDeadlineCounts(LocalDate deadlineDate) {
+        return memberDeadlineCountRepository.findDeadlineCounts(deadlineDate);
+    }
+
+    private void apply(Snapshot before, Snapshot after) {
+        if (before != null && before.equals(after)) {
+            return;
+        }
+
+        if (before != null && before.isOpen()) {
+            memberDeadlineCountRepository.addDelta(before.memberId(), before.endDate(), -1);
+        }
+
+        if (after.isOpen()) {
+            memberDeadlineCountRepository.addDelta(after.memberId(), after.endDate(), 1);
+        }
+    }
+
+    private record DeadlineKey(Long memberId, LocalDate deadlineDate) {
+    }
+
+    public record Snapshot(Long memberId, LocalDate endDate, TaskStatus taskStatus) {
+
+        boolean isOpen() {
+            return taskStatus.isOpen();
+        }
+    }
+}
@@ -9,13 +9,20 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -49,6 +56,81 @@ public class TaskController {
                 .body(ApiResult.success(HttpStatus.CREATED, "업무를 등록했습니다.", null));
     }
 
+    // 업무 일괄 등록
+    @Operation(summary = "업무 일괄 등록", description = "업무를 일괄 등록합니다.(최대 500개, 실패 항목은 결과에 포함)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "업무 일괄 등록 처리 완료"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효성 검사 실패)"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "프로젝트에 속하지 않은 사용자")
+    })
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<ApiResult<BulkTaskResultDto>> addTasks(
+            @Parameter(description = "프로젝트 ID", example = "1")
+            @PathVariable("projectId") Long projectId,
+
+            @Valid @RequestBody
+            BulkAddTaskDto bulkAddTaskDto,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        BulkTaskResultDto result = taskService.addTasks(member.getId(), projectId, bulkAddTaskDto);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResult.success(HttpStatus.CREATED, "업무 일괄 등록을 처리했습니다.", result));
+    }
+
+    // 업무 일괄 수정
+    @Operation(summary = "업무 일괄 수정", description = "업무를 일괄 수정합니다.(최대 500개, 실패 항목은 결과에 포함)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "업무 일괄 수정 처리 완료"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효성 검사 실패)"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "프로젝트에 속하지 않은 사용자")
+    })
+    @PatchMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<ApiResult<BulkTaskResultDto>> updateTasks(
+            @Parameter(description = "프로젝트 ID", example = "1")
+            @PathVariable("projectId") Long projectId,
+
+            @Valid @RequestBody
+            BulkUpdateTaskDto bulkUpdateTaskDto,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        BulkTaskResultDto result = taskService.updateTasks(member.getId(), projectId, bulkUpdateTaskDto);
+
+        return ResponseEntity.ok(
+                ApiResult.success(HttpStatus.OK, "업무 일괄 수정을 처리했습니다.", result));
+    }
+
+    // 업무 일괄 삭제
+    @Operation(summary = "업무 일괄 삭제", description = "업무를 일괄 삭제합니다.(최대 500개, 실패 항목은 결과에 포함)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "업무 일괄 삭제 처리 완료"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효성 검사 실패)"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "프로젝트에 속하지 않은 사용자")
+    })
+    @PostMapping("/projects/{projectId}/tasks/bulk-delete")
+    public ResponseEntity<ApiResult<BulkTaskResultDto>> deleteTasks(
+            @Parameter(description = "프로젝트 ID", example = "1")
+            @PathVariable("projectId") Long projectId,
+
+            @Valid @RequestBody
+            BulkDeleteTaskDto bulkDeleteTaskDto,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member
+    ) {
+        BulkTaskResultDto result = taskService.deleteTasks(member.getId(), projectId, bulkDeleteTaskDto);
+
+        return ResponseEntity.ok(
+                ApiResult.success(HttpStatus.OK, "업무 일괄 삭제를 처리했습니다.", result));
+    }
+
     // 업무 수정
     @Operation(summary = "업무 수정", description = "업무를 수정합니다.")
     @ApiResponses({
@@ -76,14 +158,14 @@ public class TaskController {
     }
 
     // 업무 목록 조회
-    @Operation(summary = "업무 목록 조회", description = "업무 목록을 조회합니다.")
+    @Operation(summary = "업무 목록 조회", description = "업무 목록을 종료일 순으로 커서 페이징 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "업무 목록 조회 성공"),
             @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자"),
     })
     @GetMapping("/tasks")
     public ResponseEntity<ApiResult<TaskListDto>> getTaskDetail(
-            @Parameter(description = "프로젝트명, 업무명, 업무 진행 상태 필터")
+            @Parameter(description = "프로젝트명, 업무명, 업무 진행 상태 필터 및 커서(마지막 종료일, 마지막 업무 ID), 페이지 크기")
             @ModelAttribute TaskSearchCondition condition,
 
             @Parameter(hidden = true)
@@ -97,6 +179,51 @@ public class TaskController {
                 ApiResult.success(HttpStatus.OK, "업무 목록을 조회했습니다.", taskList));
     }
 
+    // 업무 목록 내보내기
+    @Operation(summary = "업무 목록 내보내기", description = "업무 목록을 NDJSON 형식으로 스트리밍합니다.(관리자 전용)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "업무 목록 내보내기 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음(관리자가 아님)")
+    })
+    @GetMapping(value = "/tasks/export", produces = "application/x-ndjson")
+    public void exportTaskList(
+            @Parameter(description = "프로젝트명, 업무명, 업무 진행 상태 필터")
+            @ModelAttribute TaskSearchCondition condition,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails member,
+
+            @Parameter(hidden = true)
+            HttpServletResponse response
+    ) throws IOException {
+        boolean isManager = Role.from(member.getRole()) == Role.MANAGER;
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        taskService.exportTaskList(member.getId(), isManager, condition, response.getOutputStream());
+    }
+
+    // 마감일별 회원 업무 수 조회
+    @Operation(summary = "마감일별 회원 업무 수 조회", description = "해당 날짜에 종료되는 미완료 업무 수를 회원별로 조회합니다.(관리자 전용)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "마감일별 회원 업무 수 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인하지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음(관리자가 아님)")
+    })
+    @GetMapping("/tasks/deadline-counts")
+    public ResponseEntity<ApiResult<List<MemberDeadlineCountDto>>> getDeadlineCounts(
+            @Parameter(description = "마감일 (미입력 시 오늘)", example = "2025-01-01")
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        List<MemberDeadlineCountDto> deadlineCounts = taskService.getDeadlineCounts(date);
+
+        return ResponseEntity.ok(
+                ApiResult.success(HttpStatus.OK, "마감일별 회원 업무 수를 조회했습니다.", deadlineCounts));
+    }
+
     // 업무 상세 조회
     @Operation(summary = "업무 상세 조회", description = "업무를 상세 조회합니다.")
     @ApiResponses({
@@ -1,17 +1,23 @@
 package com.manager.taskmanager.task;
 
+import com.manager.taskmanager.global.search.SearchMode;
+import com.manager.taskmanager.project.entity.QProject;
+import com.manager.taskmanager.task.dto.TaskListDto;
 import com.manager.taskmanager.task.dto.TaskSearchCondition;
 import com.manager.taskmanager.task.entity.QTask;
-import com.manager.taskmanager.task.entity.Task;
 import com.manager.taskmanager.task.entity.TaskStatus;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
 public class TaskQueryRepository {
@@ -22,17 +28,71 @@ public class TaskQueryRepository {
         this.jpaQueryFactory = jpaQueryFactory;
     }
 
-    public List<Task> getTaskList(Long memberId, boolean isManager, TaskSearchCondition condition) {
+    // 업무 목록 조회 (종료일, ID 기준 커서 페이징 / limit 건수만큼 조회)
+    public List<TaskListDto.TaskInfo> getTaskList(Long memberId, boolean isManager, TaskSearchCondition condition, int limit) {
         QTask task = QTask.task;
 
+        BooleanBuilder booleanBuilder = makeTaskListCondition(memberId, isManager, condition);
+
+        if (condition.getLastEndDate() != null && condition.getLastTaskId() != null) {
+            booleanBuilder.and(task.endDate.gt(condition.getLastEndDate())
+                    .or(task.endDate.eq(condition.getLastEndDate())
+                            .and(task.id.gt(condition.getLastTaskId()))));
+        }
+
+        return selectTaskInfo(booleanBuilder)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 업무 목록 스트리밍 조회 (forward-only 커서, 행 단위 소비)
+    public void scrollTaskList(Long memberId, boolean isManager, TaskSearchCondition condition,
+                               Consumer<TaskListDto.TaskInfo> consumer) {
+        Query<?> query = selectTaskInfo(makeTaskListCondition(memberId, isManager, condition))
+                .createQuery()
+                .unwrap(Query.class)
+                .setReadOnly(true)
+                .setFetchSize(Integer.MIN_VALUE);
+
+        try (ScrollableResults<?> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept((TaskListDto.TaskInfo) results.get());
+            }
+        }
+    }
+
+    private JPAQuery<TaskListDto.TaskInfo> selectTaskInfo(BooleanBuilder booleanBuilder) {
+        QTask task = QTask.task;
+        QProject project = QProject.project;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(TaskListDto.TaskInfo.class,
+                        task.id,
+                        project.projectName,
+                        task.taskName,
+                        task.taskStatus,
+                        task.endDate,
+                        task.deletedAt
+                ))
+                .from(task)
+                .join(task.project, project)
+                .where(booleanBuilder)
+                .orderBy(task.endDate.asc(), task.id.asc());
+    }
+
+    private BooleanBuilder makeTaskListCondition(Long memberId, boolean isManager, TaskSearchCondition condition) {
+        QTask task = QTask.task;
+        QProject project = QProject.project;
+
         BooleanBuilder booleanBuilder = new BooleanBuilder();
+        SearchMode searchMode = SearchMode.from(condition.getSearchMode());
 
         if (StringUtils.hasText(condition.getProjectName())) {
-            booleanBuilder.and(task.project.projectName.containsIgnoreCase(condition.getProjectName()));
+            booleanBuilder.and(searchMode.matches(project.projectName, condition.getProjectName()));
         }
 
         if (StringUtils.hasText(condition.getTaskName())) {
-            booleanBuilder.and(task.taskName.containsIgnoreCase(condition.getTaskName()));
+            booleanBuilder.and(searchMode.matches(task.taskName, condition.getTaskName()));
         }
 
         if (StringUtils.hasText(condition.getTaskStatus())) {
@@ -43,21 +103,6 @@ public class TaskQueryRepository {
             booleanBuilder.and(task.projectMember.member.id.eq(memberId));
         }
 
-        return jpaQueryFactory
-                .selectFrom(task)
-                .where(booleanBuilder)
-                .orderBy(task.endDate.asc().nullsLast())
-                .fetch();
-    }
-
-    public List<Long> getDeletedTaskAfter3Month(LocalDateTime date) {
-        QTask task = QTask.task;
-
-        return jpaQueryFactory
-                .select(task.id)
-                .from(task)
-                .where(task.taskStatus.eq(TaskStatus.CANCELED)
-                        .and(task.deletedAt.loe(date)))
-                .fetch();
+        return booleanBuilder;
     }
 }
@@ -1,5 +1,9 @@
 package com.manager.taskmanager.task;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.manager.taskmanager.global.error.CustomException;
 import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.global.log.annotation.SaveLogging;
@@ -13,17 +17,29 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TaskRepository taskRepository;
     private final TaskQueryRepository taskQueryRepository;
     private final ProjectMemberUtilService pmUtilService;
+    private final MemberDeadlineCountService memberDeadlineCountService;
+    private final ObjectMapper objectMapper;
 
     // 추가
     @Transactional
@@ -47,6 +63,7 @@ public class TaskService {
         );
 
         project.addTask(task);
+        memberDeadlineCountService.added(task);
     }
 
     // 수정
@@ -54,9 +71,12 @@ public class TaskService {
     @SaveLogging(eventName = "업무 수정")
     public void updateTask(Long memberId, Long taskId, UpdateTaskDto dto) {
         Task task = getTaskAndCheckOwner(memberId, taskId);
+        MemberDeadlineCountService.Snapshot before = memberDeadlineCountService.snapshot(task);
 
         task.updateTask(dto.getDescription(), dto.getStartDate(),
                 dto.getEndDate(), TaskStatus.valueOf(dto.getTaskStatus()));
+
+        memberDeadlineCountService.changed(before, task);
     }
 
     // 삭제
@@ -64,24 +84,184 @@ public class TaskService {
     @SaveLogging(eventName = "업무 삭제")
     public void deleteTask(Long memberId, Long taskId) {
         Task task = getTaskAndCheckOwner(memberId, taskId);
+        MemberDeadlineCountService.Snapshot before = memberDeadlineCountService.snapshot(task);
 
         task.deleteTask();
+
+        memberDeadlineCountService.changed(before, task);
+    }
+
+    // 일괄 추가 (프로젝트 멤버 한 번 조회, 유효한 항목만 배치 저장 / 실패 항목은 결과로 반환)
+    @Transactional
+    @SaveLogging(eventName = "업무 일괄 등록")
+    public BulkTaskResultDto addTasks(Long memberId, Long projectId, BulkAddTaskDto dto) {
+        ProjectMember projectMember = pmUtilService.getProjectMember(memberId, projectId);
+        Project project = projectMember.getProject();
+
+        BulkTaskResultDto result = new BulkTaskResultDto();
+        List<Task> taskList = new ArrayList<>();
+
+        for (int i = 0; i < dto.getTaskList().size(); i++) {
+            AddTaskDto item = dto.getTaskList().get(i);
+
+            if (!isInProjectDate(item.getStartDate(), item.getEndDate(), project)) {
+                result.fail(i, null, ErrorCode.INVALID_PROJECT_DATE);
+                continue;
+            }
+
+            Task task = Task.createTask(
+                    projectMember,
+                    item.getTaskName(),
+                    item.getDescription(),
+                    item.getStartDate(),
+                    item.getEndDate(),
+                    TaskStatus.valueOf(item.getTaskStatus())
+            );
+
+            // project.tasks 컬렉션을 초기화하지 않도록 연관관계만 설정
+            task.setProject(project);
+            taskList.add(task);
+        }
+
+        taskRepository.saveAll(taskList);
+        memberDeadlineCountService.changedAll(null, taskList);
+
+        taskList.forEach(task -> result.success(task.getId()));
+
+        return result;
     }
 
-    // 업무 목록 조회
+    // 일괄 수정 (업무 한 번에 조회, 변경 감지로 배치 수정 / 실패 항목은 결과로 반환)
+    @Transactional
+    @SaveLogging(eventName = "업무 일괄 수정")
+    public BulkTaskResultDto updateTasks(Long memberId, Long projectId, BulkUpdateTaskDto dto) {
+        ProjectMember projectMember = pmUtilService.getProjectMember(memberId, projectId);
+        Project project = projectMember.getProject();
+
+        List<Long> taskIdList = dto.getTaskList().stream()
+                .map(BulkUpdateTaskDto.TaskUpdateDto::getTaskId)
+                .toList();
+
+        Map<Long, Task> taskMap = getTaskMap(taskIdList);
+
+        BulkTaskResultDto result = new BulkTaskResultDto();
+        List<MemberDeadlineCountService.Snapshot> beforeList = new ArrayList<>();
+        List<Task> taskList = new ArrayList<>();
+
+        for (int i = 0; i < dto.getTaskList().size(); i++) {
+            BulkUpdateTaskDto.TaskUpdateDto item = dto.getTaskList().get(i);
+            Task task = taskMap.get(item.getTaskId());
+            ErrorCode errorCode = checkOwner(task, projectId, projectMember);
+
+            if (errorCode == null && !isInProjectDate(item.getStartDate(), item.getEndDate(), project)) {
+                errorCode = ErrorCode.INVALID_PROJECT_DATE;
+            }
+
+            if (errorCode != null) {
+                result.fail(i, item.getTaskId(), errorCode);
+                continue;
+            }
+
+            beforeList.add(memberDeadlineCountService.snapshot(task));
+
+            task.updateTask(item.getDescription(), item.getStartDate(),
+                    item.getEndDate(), TaskStatus.valueOf(item.getTaskStatus()));
+
+            taskList.add(task);
+            result.success(task.getId());
+        }
+
+        memberDeadlineCountService.changedAll(beforeList, taskList);
+
+        return result;
+    }
+
+    // 일괄 삭제 (업무 한 번에 조회, 변경 감지로 배치 수정 / 실패 항목은 결과로 반환)
+    @Transactional
+    @SaveLogging(eventName = "업무 일괄 삭제")
+    public BulkTaskResultDto deleteTasks(Long memberId, Long projectId, BulkDeleteTaskDto dto) {
+        ProjectMember projectMember = pmUtilService.getProjectMember(memberId, projectId);
+
+        Map<Long, Task> taskMap = getTaskMap(dto.getTaskIdList());
+
+        BulkTaskResultDto result = new BulkTaskResultDto();
+        List<MemberDeadlineCountService.Snapshot> beforeList = new ArrayList<>();
+        List<Task> taskList = new ArrayList<>();
+
+        for (int i = 0; i < dto.getTaskIdList().size(); i++) {
+            Long taskId = dto.getTaskIdList().get(i);
+            Task task = taskMap.get(taskId);
+            ErrorCode errorCode = checkOwner(task, projectId, projectMember);
+
+            if (errorCode != null) {
+                result.fail(i, taskId, errorCode);
+                continue;
+            }
+
+            beforeList.add(memberDeadlineCountService.snapshot(task));
+
+            task.deleteTask();
+
+            taskList.add(task);
+            result.success(taskId);
+        }
+
+        memberDeadlineCountService.changedAll(beforeList, taskList);
+
+        return result;
+    }
+
+    // 업무 목록 조회 (종료일, ID 기준 커서 페이징)
     @Transactional(readOnly = true)
     public TaskListDto getTaskList(Long memberId, boolean isManager, TaskSearchCondition condition) {
-        List<Task> taskList = taskQueryRepository.getTaskList(memberId, isManager, condition);
+        int size = getPageSize(condition.getSize());
+
+        List<TaskListDto.TaskInfo> taskInfoList =
+                new ArrayList<>(taskQueryRepository.getTaskList(memberId, isManager, condition, size + 1));
+
+        boolean hasNext = taskInfoList.size() > size;
+
+        if (hasNext) {
+            taskInfoList.remove(size);
+        }
+
+        TaskListDto.TaskInfo lastTask = taskInfoList.isEmpty() ? null : taskInfoList.get(taskInfoList.size() - 1);
+
+        return new TaskListDto(
+                taskInfoList,
+                hasNext,
+                lastTask != null ? lastTask.getEndDate() : null,
+                lastTask != null ? lastTask.getTaskId() : null
+        );
+    }
+
+    // 업무 목록 내보내기 (NDJSON, 한 행씩 직렬화하여 바로 출력)
+    @Transactional(readOnly = true)
+    public void exportTaskList(Long memberId, boolean isManager, TaskSearchCondition condition,
+                               OutputStream outputStream) throws IOException {
+        ObjectWriter objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
-        List<TaskListDto.TaskInfo> taskInfoList = taskList.stream()
-                .map(task -> new TaskListDto.TaskInfo(
-                        task.getProject().getProjectName(),
-                        task.getTaskName(),
-                        task.getTaskStatus().name(),
-                        task.getDeletedAt()))
-                .collect(Collectors.toList());
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
 
-        return new TaskListDto(taskInfoList);
+            taskQueryRepository.scrollTaskList(memberId, isManager, condition, taskInfo -> {
+                try {
+                    objectWriter.writeValue(generator, taskInfo);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 마감일별 회원 업무 수 조회 (기본값 : 오늘)
+    @Transactional(readOnly = true)
+    public List<MemberDeadlineCountDto> getDeadlineCounts(LocalDate deadlineDate) {
+        return memberDeadlineCountService.getDeadlineCounts(deadlineDate != null ? deadlineDate : LocalDate.now());
     }
 
     // 상세 조회
@@ -107,6 +287,39 @@ public class TaskService {
         );
     }
 
+    // 페이지 크기 보정
+    private int getPageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 프로젝트 허용일 체크 (일괄 처리용, 예외 대신 결과 반환)
+    private boolean isInProjectDate(LocalDate startDate, LocalDate endDate, Project project) {
+        return !startDate.isBefore(project.getStartDate()) && !endDate.isAfter(project.getEndDate());
+    }
+
+    // 업무 ID 목록 한 번에 조회
+    private Map<Long, Task> getTaskMap(List<Long> taskIdList) {
+        return taskRepository.findAllById(new HashSet<>(taskIdList)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    // 일괄 처리 업무 권한 체크 / 통과 시 null
+    private ErrorCode checkOwner(Task task, Long projectId, ProjectMember projectMember) {
+        if (task == null || !task.getProject().getId().equals(projectId)) {
+            return ErrorCode.TASK_NOT_FOUND;
+        }
+
+        if (!task.getProjectMember().getId().equals(projectMember.getId())) {
+            return ErrorCode.NO_PERMISSION;
+        }
+
+        return null;
+    }
+
     // 업무 조회 및 업무 권한 체크
     private Task getTaskAndCheckOwner(Long memberId, Long taskId) {
         Task task = taskRepository.findById(taskId)
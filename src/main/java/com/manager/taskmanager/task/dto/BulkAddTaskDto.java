@@ -0,0 +1,26 @@
+package com.manager.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "업무 일괄 등록 Request DTO")
+public class BulkAddTaskDto {
+
+    @Valid
+    @NotEmpty(message = "최소 한 개 이상 등록하세요.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 등록할 수 있습니다.")
+    private List<AddTaskDto> taskList = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+package com.manager.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "업무 일괄 삭제 Request DTO")
+public class BulkDeleteTaskDto {
+
+    @Schema(description = "업무 ID 목록", example = "[1, 2, 3]")
+    @NotEmpty(message = "최소 한 개 이상 삭제하세요.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 삭제할 수 있습니다.")
+    private List<@NotNull(message = "업무 ID는 필수 입력 값 입니다.") Long> taskIdList = new ArrayList<>();
+}
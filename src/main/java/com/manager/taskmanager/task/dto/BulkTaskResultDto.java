@@ -0,0 +1,59 @@
+package com.manager.taskmanager.task.dto;
+
+import com.manager.taskmanager.global.error.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "업무 일괄 처리 결과 Response DTO")
+public class BulkTaskResultDto {
+
+    @Schema(description = "처리된 업무 ID 목록")
+    private final List<Long> successTaskIdList = new ArrayList<>();
+
+    @Schema(description = "실패 항목 목록")
+    private final List<FailedItem> failedList = new ArrayList<>();
+
+    public void success(Long taskId) {
+        successTaskIdList.add(taskId);
+    }
+
+    public void fail(int index, Long taskId, ErrorCode errorCode) {
+        failedList.add(new FailedItem(index, taskId, errorCode.getCode(), errorCode.getMessage()));
+    }
+
+    @Schema(description = "성공 건수")
+    public int getSuccessCount() {
+        return successTaskIdList.size();
+    }
+
+    @Schema(description = "실패 건수")
+    public int getFailureCount() {
+        return failedList.size();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "실패 항목 Response DTO")
+    public static class FailedItem {
+
+        @Schema(description = "요청 목록 내 순번(0부터 시작)", example = "0")
+        private int index;
+
+        @Schema(description = "업무 ID (등록 시 null)", example = "1")
+        private Long taskId;
+
+        @Schema(description = "에러 코드", example = "INVALID_PROJECT_DATE")
+        private String code;
+
+        @Schema(description = "에러 메시지", example = "프로젝트 시작날짜와 종료날짜를 확인해주세요.")
+        private String message;
+    }
+}
@@ -0,0 +1,60 @@
+package com.manager.taskmanager.task.dto;
+
+import com.manager.taskmanager.global.validation.ValidEnum;
+import com.manager.taskmanager.task.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "업무 일괄 수정 Request DTO")
+public class BulkUpdateTaskDto {
+
+    @Valid
+    @NotEmpty(message = "최소 한 개 이상 수정하세요.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 수정할 수 있습니다.")
+    private List<TaskUpdateDto> taskList = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "업무 수정 정보 Request DTO")
+    public static class TaskUpdateDto {
+
+        @Schema(description = "업무 ID", example = "1")
+        @NotNull(message = "업무 ID는 필수 입력 값 입니다.")
+        private Long taskId;
+
+        @Schema(description = "설명", example = "This is Making Service")
+        @NotBlank(message = "설명은 필수 입력 값 입니다.")
+        private String description;
+
+        @Schema(description = "시작일", example = "2025-01-01")
+        @NotNull(message = "시작일은 필수 입력 값 입니다.")
+        private LocalDate startDate;
+
+        @Schema(description = "종료일", example = "2025-12-31")
+        @NotNull(message = "종료일은 필수 입력 값 입니다.")
+        private LocalDate endDate;
+
+        @Schema(description = "진행 상태", example = "PENDING")
+        @NotNull(message = "진행 상태는 필수 입력 값 입니다.")
+        @ValidEnum(enumClass = TaskStatus.class)
+        private String taskStatus;
+    }
+}
@@ -0,0 +1,24 @@
+package com.manager.taskmanager.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "마감일별 회원 업무 수 Response DTO")
+public class MemberDeadlineCountDto {
+
+    @Schema(description = "회원 ID")
+    private Long memberId;
+
+    @Schema(description = "회원 이름")
+    private String name;
+
+    @Schema(description = "미완료 업무 수")
+    private Long taskCount;
+}
@@ -1,11 +1,13 @@
 package com.manager.taskmanager.task.dto;
 
+import com.manager.taskmanager.task.entity.TaskStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +22,15 @@ public class TaskListDto {
     @Schema(description = "업무 목록")
     List<TaskListDto.TaskInfo> taskList = new ArrayList<>();
 
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 마지막 업무 종료일(커서)")
+    private LocalDate lastEndDate;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 마지막 업무 ID(커서)")
+    private Long lastTaskId;
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -27,6 +38,9 @@ public class TaskListDto {
     @Schema(description = "업무 목록 정보 Response DTO")
     public static class TaskInfo {
 
+        @Schema(description = "업무 ID")
+        private Long taskId;
+
         @Schema(description = "프로젝트명")
         private String projectName;
 
@@ -36,7 +50,20 @@ public class TaskListDto {
         @Schema(description = "업무 상태")
         private String taskStatus;
 
+        @Schema(description = "종료일")
+        private LocalDate endDate;
+
         @Schema(description = "삭제일자")
         private LocalDateTime deletedAt;
+
+        public TaskInfo(Long taskId, String projectName, String taskName, TaskStatus taskStatus,
+                        LocalDate endDate, LocalDateTime deletedAt) {
+            this.taskId = taskId;
+            this.projectName = projectName;
+            this.taskName = taskName;
+            this.taskStatus = taskStatus.name();
+            this.endDate = endDate;
+            this.deletedAt = deletedAt;
+        }
     }
 }
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 @Getter
 @Setter
@@ -21,4 +24,23 @@ public class TaskSearchCondition {
 
     @Schema(description = "업무 상태", example = "PENDING")
     private String taskStatus;
+
+    @Schema(description = "이름 검색 방식(LIKE, FULLTEXT / 기본 LIKE)", example = "FULLTEXT")
+    private String searchMode;
+
+    @Schema(description = "이전 페이지 마지막 업무 종료일(커서)", example = "2025-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate lastEndDate;
+
+    @Schema(description = "이전 페이지 마지막 업무 ID(커서)", example = "1")
+    private Long lastTaskId;
+
+    @Schema(description = "페이지 크기(기본 20, 최대 100)", example = "20")
+    private Integer size;
+
+    public TaskSearchCondition(String projectName, String taskName, String taskStatus) {
+        this.projectName = projectName;
+        this.taskName = taskName;
+        this.taskStatus = taskStatus;
+    }
 }
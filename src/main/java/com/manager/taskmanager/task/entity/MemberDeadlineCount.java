@@ -0,0 +1,33 @@
+package com.manager.taskmanager.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 회원별 / 종료일별 미완료 업무 수 (업무 등록 / 수정 / 삭제 시 증감)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_deadline_counts",
+    uniqueConstraints = @UniqueConstraint(
+            columnNames = {"deadline_date", "member_id"}
+    )
+)
+public class MemberDeadlineCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "deadline_date", nullable = false)
+    private LocalDate deadlineDate;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+}
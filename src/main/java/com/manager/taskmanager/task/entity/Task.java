@@ -14,11 +14,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-@Table(name = "tasks")
+@Table(name = "tasks",
+    indexes = {
+            @Index(name = "idx_tasks_project_member_end_date", columnList = "project_member_id, end_date, id"),
+            @Index(name = "idx_tasks_end_date", columnList = "end_date, id"),
+            @Index(name = "idx_tasks_status_deleted_at", columnList = "task_status, deleted_at")
+    }
+)
 public class Task extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "taskSeqGenerator")
+    @SequenceGenerator(name = "taskSeqGenerator", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
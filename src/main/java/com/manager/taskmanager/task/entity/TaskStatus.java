@@ -6,6 +6,11 @@ import com.manager.taskmanager.global.error.ErrorCode;
 public enum TaskStatus {
     PENDING, PROGRESS, COMPLETED, CANCELED;
 
+    // 마감 알림 대상 (취소 / 완료 제외)
+    public boolean isOpen() {
+        return this != COMPLETED && this != CANCELED;
+    }
+
     public static TaskStatus from(String status) {
         try {
             return TaskStatus.valueOf(status.toUpperCase());
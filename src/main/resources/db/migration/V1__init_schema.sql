@@ -0,0 +1,108 @@
+-- 기본 스키마 (ddl-auto: update 로 생성되던 스키마와 동일, 기존 DB 에서도 누락된 테이블만 생성되도록 IF NOT EXISTS 사용)
+CREATE TABLE IF NOT EXISTS departments (
+    id              BIGINT       NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    department_name VARCHAR(50)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_departments_department_name UNIQUE (department_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS members (
+    id              BIGINT       NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    deleted_at      DATETIME(6),
+    department_id   BIGINT,
+    email           VARCHAR(100) NOT NULL,
+    employee_number VARCHAR(50)  NOT NULL,
+    name            VARCHAR(10)  NOT NULL,
+    password        VARCHAR(255) NOT NULL,
+    phone_number    VARCHAR(20)  NOT NULL,
+    position        ENUM ('INTERN', 'STAFF', 'PROFESSIONAL', 'ASSISTANT_MANAGER', 'GENERAL_MANAGER',
+                          'DEPUTY_GENERAL_MANAGER', 'DEPARTMENT_HEAD', 'DIRECTOR', 'SENIOR_VICE_PRESIDENT',
+                          'EXECUTIVE_VICE_PRESIDENT', 'VICE_PRESIDENT', 'PRESIDENT', 'VICE_CHAIRMAN', 'CHAIRMAN') NOT NULL,
+    role            ENUM ('MANAGER', 'MEMBER') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_members_email UNIQUE (email),
+    CONSTRAINT uk_members_employee_number UNIQUE (employee_number),
+    CONSTRAINT uk_members_phone_number UNIQUE (phone_number),
+    CONSTRAINT fk_members_department FOREIGN KEY (department_id) REFERENCES departments (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS projects (
+    id             BIGINT        NOT NULL,
+    created_at     DATETIME(6)   NOT NULL,
+    updated_at     DATETIME(6)   NOT NULL,
+    deleted_at     DATETIME(6),
+    description    VARCHAR(1000) NOT NULL,
+    end_date       DATE          NOT NULL,
+    project_name   VARCHAR(100)  NOT NULL,
+    project_status ENUM ('PENDING', 'PROGRESS', 'COMPLETED', 'CANCELED') NOT NULL,
+    start_date     DATE          NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project_members (
+    id                    BIGINT NOT NULL,
+    end_date              DATE   NOT NULL,
+    start_date            DATE   NOT NULL,
+    member_id             BIGINT NOT NULL,
+    project_id            BIGINT NOT NULL,
+    project_member_status ENUM ('ACTIVE', 'INACTIVE') NOT NULL,
+    project_role          ENUM ('LEADER', 'MANAGER', 'MEMBER') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_members_project_member UNIQUE (project_id, member_id),
+    CONSTRAINT fk_project_members_member FOREIGN KEY (member_id) REFERENCES members (id),
+    CONSTRAINT fk_project_members_project FOREIGN KEY (project_id) REFERENCES projects (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id                BIGINT        NOT NULL,
+    created_at        DATETIME(6)   NOT NULL,
+    updated_at        DATETIME(6)   NOT NULL,
+    deleted_at        DATETIME(6),
+    description       VARCHAR(1000) NOT NULL,
+    end_date          DATE          NOT NULL,
+    start_date        DATE          NOT NULL,
+    project_id        BIGINT        NOT NULL,
+    project_member_id BIGINT        NOT NULL,
+    task_name         VARCHAR(100)  NOT NULL,
+    task_status       ENUM ('PENDING', 'PROGRESS', 'COMPLETED', 'CANCELED') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_tasks_project_member FOREIGN KEY (project_member_id) REFERENCES project_members (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date DATE         NOT NULL,
+    is_read      BIT          NOT NULL,
+    member_id    BIGINT       NOT NULL,
+    message      VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_notifications_member_created_date UNIQUE (member_id, created_date),
+    CONSTRAINT fk_notifications_member FOREIGN KEY (member_id) REFERENCES members (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS member_deadline_counts (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    deadline_date DATE   NOT NULL,
+    member_id     BIGINT NOT NULL,
+    task_count    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_deadline_counts_deadline_member UNIQUE (deadline_date, member_id)
+) ENGINE = InnoDB;
+
+-- 시퀀스 (테이블 에뮬레이션, pooled-lo)
+CREATE TABLE IF NOT EXISTS departments_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS members_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS projects_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS project_members_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS tasks_seq (next_val BIGINT) ENGINE = InnoDB;
+
+INSERT INTO departments_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM departments_seq);
+INSERT INTO members_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM members_seq);
+INSERT INTO projects_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM projects_seq);
+INSERT INTO project_members_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM project_members_seq);
+INSERT INTO tasks_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM tasks_seq);
@@ -0,0 +1,14 @@
+-- 조회 조건(QueryDSL / 배치 쿼리)에 맞춘 복합 인덱스
+
+-- 회원 업무 목록 (project_members 조인 후 종료일, ID 순 커서 페이징)
+CREATE INDEX idx_tasks_project_member_end_date ON tasks (project_member_id, end_date, id);
+
+-- 관리자 업무 목록 / 내보내기 (종료일, ID 순 커서 페이징)
+CREATE INDEX idx_tasks_end_date ON tasks (end_date, id);
+
+-- 오래된 업무 삭제 배치 (task_status = 'CANCELED' AND deleted_at <= ? / id 범위 파티션)
+CREATE INDEX idx_tasks_status_deleted_at ON tasks (task_status, deleted_at);
+
+-- 읽은 알림 삭제 배치 (is_read = true AND created_date < ?)
+CREATE INDEX idx_notifications_read_created_date ON notifications (is_read, created_date);
+
@@ -0,0 +1,6 @@
+-- IDENTITY 에서 시퀀스(테이블 에뮬레이션)로 전환한 엔티티의 다음 ID 를 기존 데이터 이후로 맞춤 (여러 번 실행해도 안전)
+UPDATE departments_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM departments));
+UPDATE members_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM members));
+UPDATE projects_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM projects));
+UPDATE project_members_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM project_members));
+UPDATE tasks_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM tasks));
@@ -0,0 +1,8 @@
+-- 이름 검색용 FULLTEXT 인덱스 (ngram parser, 한글 검색)
+-- 기본 불용어('a', 'is' 등)가 포함된 ngram 은 색인되지 않으므로 인덱스 생성 세션에서 불용어 비활성화
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE tasks ADD FULLTEXT INDEX ft_tasks_task_name (task_name) WITH PARSER ngram;
+ALTER TABLE projects ADD FULLTEXT INDEX ft_projects_project_name (project_name) WITH PARSER ngram;
+ALTER TABLE members ADD FULLTEXT INDEX ft_members_name (name) WITH PARSER ngram;
+ALTER TABLE departments ADD FULLTEXT INDEX ft_departments_department_name (department_name) WITH PARSER ngram;
@@ -0,0 +1,11 @@
+-- 회원별 / 종료일별 미완료 업무 수 초기 집계
+-- 알림 생성 배치가 member_deadline_counts 만 읽으므로 카운터를 읽기 시작하는 배포에서 함께 채움
+-- 정합성 복구가 필요하면 같은 구문을 다시 실행 (전체 재집계라 여러 번 실행해도 결과 동일)
+DELETE FROM member_deadline_counts;
+
+INSERT INTO member_deadline_counts (member_id, deadline_date, task_count)
+SELECT pm.member_id, t.end_date, COUNT(t.id)
+FROM tasks t
+JOIN project_members pm ON t.project_member_id = pm.id
+WHERE t.task_status NOT IN ('CANCELED', 'COMPLETED')
+GROUP BY pm.member_id, t.end_date;
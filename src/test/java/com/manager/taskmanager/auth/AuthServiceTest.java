@@ -5,14 +5,17 @@ import com.manager.taskmanager.auth.dto.TokenDto;
 import com.manager.taskmanager.global.error.CustomException;
 import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.config.DBContainerExtension;
+import com.manager.taskmanager.global.config.security.AccessTokenCache;
 import com.manager.taskmanager.global.config.security.JwtPayloadDto;
 import com.manager.taskmanager.global.config.security.JwtTokenUtil;
+import com.manager.taskmanager.global.config.security.LogoutTokenBlacklist;
 import com.manager.taskmanager.department.DepartmentRepository;
 import com.manager.taskmanager.department.entity.Department;
 import com.manager.taskmanager.member.MemberRepository;
 import com.manager.taskmanager.member.entity.Member;
 import com.manager.taskmanager.member.entity.Position;
 import com.manager.taskmanager.member.entity.Role;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +29,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -53,6 +58,12 @@ class AuthServiceTest {
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
+    @Autowired
+    private AccessTokenCache accessTokenCache;
+
+    @Autowired
+    private LogoutTokenBlacklist logoutTokenBlacklist;
+
     private Member member;
     private Department department;
 
@@ -148,6 +159,61 @@ class AuthServiceTest {
             assertThat(redisTemplate.opsForValue().get(hashToken)).isNotNull();
         }
 
+        @Test
+        @DisplayName("로그아웃 시 검증 캐시에서 제거")
+        void whenLogout_thenRemoveFromAccessTokenCache() {
+            JwtPayloadDto jwtPayloadDto = new JwtPayloadDto(
+                    member.getId(), department.getDepartmentName(), member.getEmployeeNumber(),
+                    member.getRole().getValue(), member.getPosition()
+            );
+
+            String accessToken = jwtTokenUtil.generateAccessToken(jwtPayloadDto);
+            String hashToken = jwtTokenUtil.tokenToHash(accessToken);
+            Claims claims = jwtTokenUtil.verifyAccessToken(accessToken);
+
+            accessTokenCache.put(hashToken, jwtTokenUtil.toJwtPayload(claims), claims.getExpiration().getTime());
+
+            assertThat(accessTokenCache.get(hashToken).getEmployeeNumber()).isEqualTo(member.getEmployeeNumber());
+
+            authService.logout(accessToken);
+
+            assertThat(accessTokenCache.get(hashToken)).isNull();
+        }
+
+        @Test
+        @DisplayName("로그아웃된 토큰은 로그아웃 목록에서 확인")
+        void whenLogout_thenBlacklisted() {
+            JwtPayloadDto jwtPayloadDto = new JwtPayloadDto(
+                    member.getId(), department.getDepartmentName(), member.getEmployeeNumber(),
+                    member.getRole().getValue(), member.getPosition()
+            );
+
+            String accessToken = jwtTokenUtil.generateAccessToken(jwtPayloadDto);
+            String refreshToken = jwtTokenUtil.generateRefreshToken(jwtPayloadDto);
+
+            authService.logout(accessToken);
+
+            assertThat(logoutTokenBlacklist.isLogout(jwtTokenUtil.tokenToHash(accessToken))).isTrue();
+            assertThat(logoutTokenBlacklist.isLogout(jwtTokenUtil.tokenToHash(refreshToken))).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 서버에서 로그아웃된 토큰은 재동기화 후 확인")
+        void whenLoggedOutOnOtherServer_thenBlacklistedAfterSynchronize() {
+            JwtPayloadDto jwtPayloadDto = new JwtPayloadDto(
+                    member.getId(), department.getDepartmentName(), member.getEmployeeNumber(),
+                    member.getRole().getValue(), member.getPosition()
+            );
+
+            String hashToken = jwtTokenUtil.tokenToHash(jwtTokenUtil.generateAccessToken(jwtPayloadDto));
+
+            redisTemplate.opsForValue().set(hashToken, "logout", 60, TimeUnit.SECONDS);
+
+            logoutTokenBlacklist.synchronize();
+
+            assertThat(logoutTokenBlacklist.isLogout(hashToken)).isTrue();
+        }
+
         @Test
         @DisplayName("Access 토큰 오류 시 401 반환")
         void whenAccessTokenIsNull_thenReturnUnauthorized() {
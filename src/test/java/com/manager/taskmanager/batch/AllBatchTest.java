@@ -30,6 +30,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -109,6 +112,51 @@ public class AllBatchTest {
         assertThat(taskRepository.findAll()).isEmpty();
     }
 
+    @Test
+    void 오래된_업무_삭제_배치_재실행() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        long runId = System.currentTimeMillis();
+        testDataFactory.createDeletedTask(member, project, LocalDateTime.now().minusMonths(4));
+
+        JobExecution firstExecution = jobLauncher.run(
+                deleteOldTasksJob,
+                new JobParametersBuilder().addLong("run.id", runId).toJobParameters()
+        );
+
+        testDataFactory.createDeletedTask(leader, project, LocalDateTime.now().minusMonths(5));
+
+        JobExecution secondExecution = jobLauncher.run(
+                deleteOldTasksJob,
+                new JobParametersBuilder().addLong("run.id", runId + 1).toJobParameters()
+        );
+
+        assertThat(firstExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(secondExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(taskRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void 오래된_업무_삭제_배치_파티션() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        testDataFactory.createDeletedTask(member, project, LocalDateTime.now().minusMonths(4));
+        testDataFactory.createDeletedTask(leader, project, LocalDateTime.now().minusMonths(5));
+        testDataFactory.createDeletedTask(leader, project, LocalDateTime.now().minusMonths(6));
+        testDataFactory.createDeletedTask(member, project, LocalDateTime.now().minusMonths(1));
+
+        JobExecution execution = jobLauncher.run(
+                deleteOldTasksJob,
+                new JobParametersBuilder().addLong("run.id", System.currentTimeMillis()).toJobParameters()
+        );
+
+        List<StepExecution> workerExecutions = execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith("deleteOldTasksWorkerStep"))
+                .toList();
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(workerExecutions).hasSizeGreaterThan(1);
+        assertThat(workerExecutions).allMatch(stepExecution -> stepExecution.getStatus() == BatchStatus.COMPLETED);
+        assertThat(workerExecutions.stream().mapToLong(StepExecution::getWriteCount).sum()).isEqualTo(3);
+        assertThat(taskRepository.findAll()).hasSize(1);
+    }
+
     @Test
     void 업무_알림_저장_배치() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         testDataFactory.saveDueTodayAndPENDING(leader, member);
@@ -122,6 +170,32 @@ public class AllBatchTest {
         assertThat(notificationRepository.findAll().size()).isEqualTo(1);
     }
 
+    @Test
+    void 업무_알림_저장_배치_재실행() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        long runId = System.currentTimeMillis();
+        testDataFactory.saveDueTodayAndPENDING(leader, member);
+
+        JobExecution firstExecution = jobLauncher.run(
+                saveNotificationsJob,
+                new JobParametersBuilder().addLong("run.id", runId).toJobParameters()
+        );
+        JobExecution secondExecution = jobLauncher.run(
+                saveNotificationsJob,
+                new JobParametersBuilder().addLong("run.id", runId + 1).toJobParameters()
+        );
+
+        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd (E)", Locale.KOREA));
+
+        assertThat(firstExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(secondExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        // 이미 생성된 알림은 쓰기 건수에 포함하지 않음
+        assertThat(firstExecution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum()).isEqualTo(1);
+        assertThat(secondExecution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum()).isZero();
+        assertThat(notificationRepository.findAll())
+                .singleElement()
+                .satisfies(notification -> assertThat(notification.getMessage()).startsWith(date + " - 오늘 마감해야 할 업무가 "));
+    }
+
     @Test
     void 업무_알림_자동_삭제_배치() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         testDataFactory.createReadNotification(member, "오래된 메시지입니다.", LocalDate.now().minusMonths(2));
@@ -15,6 +15,8 @@ import com.manager.taskmanager.project.entity.ProjectStatus;
 import com.manager.taskmanager.projectmember.ProjectMemberRepository;
 import com.manager.taskmanager.projectmember.entity.ProjectMember;
 import com.manager.taskmanager.projectmember.entity.ProjectRole;
+import com.manager.taskmanager.task.MemberDeadlineCountRepository;
+import com.manager.taskmanager.task.MemberDeadlineCountService;
 import com.manager.taskmanager.task.TaskRepository;
 import com.manager.taskmanager.task.entity.Task;
 import com.manager.taskmanager.task.entity.TaskStatus;
@@ -50,6 +52,12 @@ public class TestDataFactory {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private MemberDeadlineCountRepository memberDeadlineCountRepository;
+
+    @Autowired
+    private MemberDeadlineCountService memberDeadlineCountService;
+
     public Department createDepartment() {
         Department department = Department.builder()
                 .departmentName("PJ-DV")
@@ -127,6 +135,7 @@ public class TestDataFactory {
 
         project.addTask(task);
         projectRepository.save(project);
+        memberDeadlineCountService.added(task);
 
         return project.getTasks().stream()
                 .filter(t -> t.getTaskName().equalsIgnoreCase("task"))
@@ -233,6 +242,7 @@ public class TestDataFactory {
 
         project.addTask(task);
         projectRepository.save(project);
+        memberDeadlineCountService.added(task);
     }
 
     public void clearAuthentication() {
@@ -241,6 +251,7 @@ public class TestDataFactory {
 
     public void clearAllData() {
         notificationRepository.deleteAllInBatch();
+        memberDeadlineCountRepository.deleteAllInBatch();
         taskRepository.deleteAllInBatch();
         projectMemberRepository.deleteAllInBatch();
         projectRepository.deleteAllInBatch();
@@ -1,5 +1,6 @@
 package com.manager.taskmanager.config;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,9 @@ public class TestSecurityConfig {
     public SecurityFilterChain testSecurityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
                 .authorizeHttpRequests((request) -> request
+                        // SSE 등 비동기 요청 완료 시 재디스패치 (최초 요청에서 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers(HttpMethod.POST, "/api/departments").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/api/departments/**").hasRole("MANAGER")
 
@@ -35,6 +39,9 @@ public class TestSecurityConfig {
 
                         .requestMatchers(HttpMethod.POST, "/api/members/*/password/reset").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/api/members/**").hasRole("MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/tasks/export").hasRole("MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/api/tasks/deadline-counts").hasRole("MANAGER")
+                        .requestMatchers("/actuator/**").hasRole("MANAGER")
                         .anyRequest().authenticated()
                 )
                 .csrf(csrf -> csrf.disable())
@@ -0,0 +1,84 @@
+package com.manager.taskmanager.department;
+
+import com.manager.taskmanager.config.DBContainerExtension;
+import com.manager.taskmanager.department.entity.Department;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmarkTest 로만 실행 (기본 test 태스크에서는 제외)
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+@ExtendWith(DBContainerExtension.class)
+public class DepartmentInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentInsertBenchmarkTest.class);
+
+    private static final int ROW_COUNT = 10_000;
+    private static final int FLUSH_SIZE = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @AfterEach
+    void clearDB() {
+        departmentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 INSERT 가 건별 INSERT 보다 빠름")
+    void whenJdbcBatchEnabled_thenInsertIsFaster() {
+        insert("warmup", 1, 50);
+        departmentRepository.deleteAllInBatch();
+
+        long singleMillis = insert("single", ROW_COUNT, 1);
+        long batchMillis = insert("batch", ROW_COUNT, 50);
+
+        log.info(">>> 부서 {}건 INSERT - batch_size=1 : {} ms, batch_size=50 : {} ms <<<",
+                ROW_COUNT, singleMillis, batchMillis);
+
+        assertThat(departmentRepository.count()).isEqualTo(ROW_COUNT * 2L);
+        assertThat(batchMillis).isLessThan(singleMillis);
+    }
+
+    private long insert(String prefix, int rowCount, int jdbcBatchSize) {
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+            for (int i = 0; i < rowCount; i++) {
+                entityManager.persist(Department.builder()
+                        .departmentName(prefix + "-" + i)
+                        .build());
+
+                if ((i + 1) % FLUSH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -5,14 +5,18 @@ import com.manager.taskmanager.config.DBContainerExtension;
 import com.manager.taskmanager.department.dto.AllDepartmentListDto;
 import com.manager.taskmanager.department.dto.DepartmentRegisterDto;
 import com.manager.taskmanager.department.entity.Department;
+import com.manager.taskmanager.global.config.cache.TwoLevelCacheManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +34,9 @@ class DepartmentServiceTest {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
     @Test
     @DisplayName("부서 추가")
     void 부서_추가_테스트() {
@@ -83,6 +90,28 @@ class DepartmentServiceTest {
                 .containsExactlyInAnyOrder("HR", "DV", "CA");
     }
 
+    @Test
+    @DisplayName("다른 서버의 캐시 무효화 메시지 수신 시 로컬 캐시 제거")
+    @SuppressWarnings("unchecked")
+    void 부서_목록_로컬_캐시_무효화_테스트() {
+        Cache cache = cacheManager.getCache("departments");
+        cache.put("all", new AllDepartmentListDto(List.of()));
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache =
+                (com.github.benmanes.caffeine.cache.Cache<String, Object>) cache.getNativeCache();
+
+        assertThat(localCache.getIfPresent("all")).isNotNull();
+
+        cacheManager.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-node|evict|departments|all".getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        assertThat(localCache.getIfPresent("all")).isNull();
+
+        cache.evict("all");
+    }
+
     @Test
     @DisplayName("부서 삭제")
     void 부서_삭제_테스트() {
@@ -0,0 +1,255 @@
+package com.manager.taskmanager.index;
+
+import com.manager.taskmanager.config.DBContainerExtension;
+import com.manager.taskmanager.config.TestDataFactory;
+import com.manager.taskmanager.department.entity.Department;
+import com.manager.taskmanager.member.entity.Member;
+import com.manager.taskmanager.project.entity.Project;
+import com.manager.taskmanager.task.entity.Task;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주요 조회 쿼리의 실행 계획 검증 (전체 스캔으로 바뀌거나 다른 인덱스를 타면 실패)
+// 옵티마이저 선택이 고정되도록 데이터를 채우고 ANALYZE TABLE(암묵적 커밋) 실행 / 트랜잭션 롤백 없이 실행 후 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@ExtendWith(DBContainerExtension.class)
+class QueryIndexTest {
+
+    // 테스트 데이터 ID 는 시퀀스가 발급하는 값과 겹치지 않도록 큰 값부터 사용
+    private static final long BULK_ID_BASE = 1_000_000L;
+    private static final int BULK_MEMBER_COUNT = 100;
+    private static final int BULK_ROWS_PER_MEMBER = 20;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Member member;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Department department = transactionTemplate.execute(status -> {
+            Department savedDepartment = testDataFactory.createDepartment();
+            Member leader = testDataFactory.createLeader(savedDepartment);
+            member = testDataFactory.createMember(savedDepartment);
+            project = testDataFactory.createProject(leader, member);
+            task = testDataFactory.createTask(member, project);
+            testDataFactory.createNotification(member, "message", LocalDate.now());
+            testDataFactory.createReadNotification(member, "message", LocalDate.now().minusDays(1));
+
+            entityManager.flush();
+
+            return savedDepartment;
+        });
+
+        insertBulkData(department);
+
+        jdbcTemplate.execute("ANALYZE TABLE members, project_members, tasks, notifications, member_deadline_counts");
+    }
+
+    @AfterEach
+    void clearDB() {
+        testDataFactory.clearAllData();
+    }
+
+    @Nested
+    @DisplayName("업무 쿼리 실행 계획")
+    class 업무_쿼리_실행_계획_테스트 {
+
+        @Test
+        @DisplayName("회원 업무 목록 - 프로젝트 멤버, 종료일 인덱스")
+        void whenMemberTaskList_thenUseProjectMemberEndDateIndex() {
+            Map<String, Object> plan = explain("t",
+                    "SELECT t.id FROM tasks t " +
+                            "JOIN project_members pm ON t.project_member_id = pm.id " +
+                            "WHERE pm.member_id = ? ORDER BY t.end_date, t.id LIMIT 21",
+                    member.getId());
+
+            assertIndexUsed(plan, "idx_tasks_project_member_end_date");
+        }
+
+        @Test
+        @DisplayName("업무 목록 커서 페이징 - 종료일 인덱스")
+        void whenTaskListCursor_thenUseEndDateIndex() {
+            Map<String, Object> plan = explain("t",
+                    "SELECT t.id FROM tasks t " +
+                            "WHERE (t.end_date > ? OR (t.end_date = ? AND t.id > ?)) " +
+                            "ORDER BY t.end_date, t.id LIMIT 21",
+                    task.getEndDate(), task.getEndDate(), task.getId());
+
+            assertIndexUsed(plan, "idx_tasks_end_date");
+        }
+
+        @Test
+        @DisplayName("오래된 업무 삭제 배치 - 상태, 삭제일 인덱스")
+        void whenOldTaskDeleteReader_thenUseStatusDeletedAtIndex() {
+            Map<String, Object> plan = explain("tasks",
+                    "SELECT id FROM tasks " +
+                            "WHERE task_status = 'CANCELED' AND deleted_at <= ? AND id BETWEEN ? AND ? " +
+                            "ORDER BY id",
+                    LocalDateTime.now().minusMonths(3), 1L, Long.MAX_VALUE);
+
+            assertIndexUsed(plan, "idx_tasks_status_deleted_at");
+        }
+    }
+
+    @Nested
+    @DisplayName("알림 쿼리 실행 계획")
+    class 알림_쿼리_실행_계획_테스트 {
+
+        @Test
+        @DisplayName("회원 알림 목록 - 회원, 생성일 유니크 인덱스")
+        void whenMemberNotificationList_thenUseMemberCreatedDateIndex() {
+            Map<String, Object> plan = explain("notifications",
+                    "SELECT id FROM notifications WHERE member_id = ? ORDER BY created_date DESC",
+                    member.getId());
+
+            assertIndexUsed(plan, "uk_notifications_member_created_date");
+        }
+
+        @Test
+        @DisplayName("알림 목록 커서 페이징 - 회원, 생성일 유니크 인덱스 (+ PK)")
+        void whenNotificationSliceCursor_thenUseMemberCreatedDateIndex() {
+            Map<String, Object> plan = explain("notifications",
+                    "SELECT id FROM notifications " +
+                            "WHERE member_id = ? AND (created_date < ? OR (created_date = ? AND id < ?)) " +
+                            "ORDER BY created_date DESC, id DESC LIMIT 21",
+                    member.getId(), LocalDate.now(), LocalDate.now(), Long.MAX_VALUE);
+
+            assertIndexUsed(plan, "uk_notifications_member_created_date");
+        }
+
+        @Test
+        @DisplayName("읽은 알림 삭제 배치 - 읽음 여부, 생성일 인덱스")
+        void whenDeleteNotificationReader_thenUseReadCreatedDateIndex() {
+            Map<String, Object> plan = explain("notifications",
+                    "SELECT id FROM notifications WHERE is_read = true AND created_date < ? ORDER BY id",
+                    LocalDate.now());
+
+            assertIndexUsed(plan, "idx_notifications_read_created_date");
+        }
+
+        @Test
+        @DisplayName("마감 알림 배치 - 마감일, 회원 유니크 인덱스")
+        void whenSaveNotificationReader_thenUseDeadlineMemberIndex() {
+            Map<String, Object> plan = explain("c",
+                    "SELECT c.member_id, c.task_count FROM member_deadline_counts c " +
+                            "JOIN members m ON c.member_id = m.id " +
+                            "WHERE c.deadline_date = ? AND c.task_count > 0 AND m.deleted_at IS NULL " +
+                            "ORDER BY c.member_id",
+                    task.getEndDate());
+
+            assertIndexUsed(plan, "uk_member_deadline_counts_deadline_member");
+        }
+    }
+
+    @Nested
+    @DisplayName("프로젝트 멤버 쿼리 실행 계획")
+    class 프로젝트_멤버_쿼리_실행_계획_테스트 {
+
+        @Test
+        @DisplayName("프로젝트 멤버 조회 - 프로젝트, 회원 유니크 인덱스")
+        void whenGetProjectMember_thenUseProjectMemberIndex() {
+            Map<String, Object> plan = explain("project_members",
+                    "SELECT id FROM project_members " +
+                            "WHERE project_id = ? AND member_id = ? AND project_member_status = 'ACTIVE'",
+                    project.getId(), member.getId());
+
+            assertIndexUsed(plan, "uk_project_members_project_member");
+        }
+    }
+
+    // 대상 테이블(별칭)의 실행 계획 행 조회
+    private Map<String, Object> explain(String table, String sql, Object... args) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+
+        return rows.stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 " + table + " 테이블이 없습니다. " + rows));
+    }
+
+    // 전체 스캔(type = ALL)이 아니고, 옵티마이저가 실제로 고른 인덱스(key)가 기대한 인덱스인지 검증
+    private void assertIndexUsed(Map<String, Object> plan, String indexName) {
+        assertThat(plan.get("type"))
+                .as("full scan : %s", plan)
+                .isNotEqualTo("ALL");
+        assertThat(plan.get("key"))
+                .as("index : %s", plan)
+                .isEqualTo(indexName);
+    }
+
+    // 다른 회원 100명 분량의 프로젝트 멤버, 업무, 알림, 마감 카운트 (회원당 20건씩)
+    // 업무 종료일은 1년에 걸쳐 분산, 취소 후 오래된 업무 1%, 읽은 알림 10%로 인덱스 선택도가 높도록 구성
+    private void insertBulkData(Department department) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> projectMembers = new ArrayList<>();
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> notifications = new ArrayList<>();
+        List<Object[]> deadlineCounts = new ArrayList<>();
+
+        for (int i = 0; i < BULK_MEMBER_COUNT; i++) {
+            long memberId = BULK_ID_BASE + i;
+
+            members.add(new Object[]{memberId, now, now, department.getId(), "bulk" + i + "@email.com",
+                    "bulk-" + i, "bulk" + i, "password", "0109" + String.format("%07d", i)});
+            projectMembers.add(new Object[]{memberId, today.plusWeeks(10), today.minusDays(5), memberId, project.getId()});
+
+            for (int j = 0; j < BULK_ROWS_PER_MEMBER; j++) {
+                int seq = i * BULK_ROWS_PER_MEMBER + j;
+                boolean oldCanceled = seq % 100 == 0;
+
+                tasks.add(new Object[]{BULK_ID_BASE + seq, now, now, oldCanceled ? now.minusYears(1) : null,
+                        today.minusDays(180).plusDays(seq % 360), today.minusDays(200), project.getId(), memberId,
+                        oldCanceled ? "CANCELED" : "PENDING"});
+                notifications.add(new Object[]{memberId, j >= 18, today.minusDays(j + 1)});
+                deadlineCounts.add(new Object[]{task.getEndDate().plusDays(j), memberId});
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO members (id, created_at, updated_at, department_id, email, " +
+                "employee_number, name, password, phone_number, position, role) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'STAFF', 'MEMBER')", members);
+        jdbcTemplate.batchUpdate("INSERT INTO project_members (id, end_date, start_date, member_id, project_id, " +
+                "project_member_status, project_role) VALUES (?, ?, ?, ?, ?, 'ACTIVE', 'MEMBER')", projectMembers);
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, created_at, updated_at, deleted_at, description, end_date, " +
+                "start_date, project_id, project_member_id, task_name, task_status) " +
+                "VALUES (?, ?, ?, ?, 'description', ?, ?, ?, ?, 'task', ?)", tasks);
+        jdbcTemplate.batchUpdate("INSERT INTO notifications (member_id, message, is_read, created_date) " +
+                "VALUES (?, 'message', ?, ?)", notifications);
+        jdbcTemplate.batchUpdate("INSERT INTO member_deadline_counts (deadline_date, member_id, task_count) " +
+                "VALUES (?, ?, 1)", deadlineCounts);
+    }
+}
@@ -0,0 +1,214 @@
+package com.manager.taskmanager.log;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.taskmanager.global.log.async.LogEventRingBuffer;
+import com.manager.taskmanager.global.log.async.LogEventWriter;
+import com.manager.taskmanager.global.log.async.OverflowPolicy;
+import com.manager.taskmanager.global.log.dto.LogEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class LogEventWriterTest {
+
+    private static final String WORKER_THREAD_NAME = "async-log-writer";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger logger = (Logger) LoggerFactory.getLogger("com.manager.taskmanager.global.log.aop.LoggingAspect");
+    private final CapturingAppender appender = new CapturingAppender();
+
+    private LogEventWriter logEventWriter;
+
+    @BeforeEach
+    void setUp() {
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.gate.countDown();
+
+        if (logEventWriter != null) {
+            logEventWriter.stop();
+        }
+
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Nested
+    @DisplayName("링 버퍼 테스트")
+    class 링_버퍼_테스트 {
+
+        @Test
+        @DisplayName("가득 찰 때까지 추가 후 넣은 순서대로 꺼냄")
+        void whenOfferUntilFull_thenPollInOrder() {
+            LogEventRingBuffer<Integer> buffer = new LogEventRingBuffer<>(4);
+
+            assertThat(IntStream.range(0, 4)).allMatch(buffer::offer);
+            assertThat(buffer.offer(4)).isFalse();
+            assertThat(buffer.size()).isEqualTo(4);
+
+            assertThat(IntStream.range(0, 4).mapToObj(i -> buffer.poll()).toList()).containsExactly(0, 1, 2, 3);
+            assertThat(buffer.poll()).isNull();
+            assertThat(buffer.size()).isZero();
+
+            // 꺼낸 뒤에는 다시 추가 가능 (슬롯 재사용)
+            assertThat(buffer.offer(5)).isTrue();
+            assertThat(buffer.poll()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("크기가 2의 거듭제곱이 아니면 예외")
+        void whenCapacityNotPowerOfTwo_thenThrow() {
+            assertThatThrownBy(() -> new LogEventRingBuffer<>(6))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 기록 테스트")
+    class 비동기_기록_테스트 {
+
+        @Test
+        @DisplayName("대기 중인 워커는 이벤트가 들어오면 깨어나서 기록")
+        void whenIdleWorkerAndEventWritten_thenWritten() throws InterruptedException {
+            logEventWriter = createWriter(16, OverflowPolicy.DROP);
+            appender.gate.countDown();
+
+            // 워커가 빈 버퍼에서 대기 상태로 들어갈 시간
+            Thread.sleep(50);
+
+            logEventWriter.write(createEvent(0), null);
+
+            await().until(() -> appender.events.size() == 1);
+
+            assertThat(appender.events.get(0).getThreadName()).isEqualTo(WORKER_THREAD_NAME);
+        }
+
+        @Test
+        @DisplayName("버퍼가 가득 차면 DROP 정책은 이벤트를 버리고 건수 기록")
+        void whenBufferFullWithDrop_thenDroppedAndCounted() throws InterruptedException {
+            logEventWriter = createWriter(2, OverflowPolicy.DROP);
+            fillBufferWhileWorkerBlocked(2);
+
+            logEventWriter.write(createEvent(3), null);
+
+            assertThat(meterRegistry.counter("logging.async.dropped").count()).isEqualTo(1);
+
+            appender.gate.countDown();
+            logEventWriter.stop();
+
+            assertThat(eventNames()).containsExactly("event-0", "event-1", "event-2");
+        }
+
+        @Test
+        @DisplayName("버퍼가 가득 차면 CALLER_RUNS 정책은 호출 스레드에서 바로 기록")
+        void whenBufferFullWithCallerRuns_thenWrittenByCaller() throws InterruptedException {
+            logEventWriter = createWriter(2, OverflowPolicy.CALLER_RUNS);
+            fillBufferWhileWorkerBlocked(2);
+
+            logEventWriter.write(createEvent(3), null);
+
+            // 워커가 막혀 있어도 호출 스레드에서 이미 기록됨
+            assertThat(appender.events)
+                    .filteredOn(event -> event.getFormattedMessage().contains("\"eventName\":\"event-3\""))
+                    .singleElement()
+                    .satisfies(event -> assertThat(event.getThreadName()).isEqualTo(Thread.currentThread().getName()));
+            assertThat(meterRegistry.counter("logging.async.dropped").count()).isZero();
+
+            appender.gate.countDown();
+            logEventWriter.stop();
+
+            assertThat(eventNames()).containsExactlyInAnyOrder("event-0", "event-1", "event-2", "event-3");
+        }
+
+        @Test
+        @DisplayName("종료 시 버퍼에 남은 이벤트를 모두 기록")
+        void whenStop_thenRemainingEventsDrained() throws InterruptedException {
+            logEventWriter = createWriter(16, OverflowPolicy.DROP);
+            fillBufferWhileWorkerBlocked(10);
+
+            Thread stopper = new Thread(logEventWriter::stop);
+            stopper.start();
+
+            // 종료 요청이 반영된 뒤에 워커를 풀어서 종료 단계에서 남은 이벤트를 기록하게 함
+            await().until(() -> !logEventWriter.isRunning());
+            appender.gate.countDown();
+            stopper.join(TimeUnit.SECONDS.toMillis(10));
+
+            assertThat(eventNames()).containsExactlyElementsOf(
+                    IntStream.rangeClosed(0, 10).mapToObj(i -> "event-" + i).toList());
+            assertThat(appender.events).allMatch(event -> event.getThreadName().equals(WORKER_THREAD_NAME));
+        }
+    }
+
+    private LogEventWriter createWriter(int bufferSize, OverflowPolicy overflowPolicy) {
+        LogEventWriter writer = new LogEventWriter(new ObjectMapper(), meterRegistry, true, bufferSize, 256, overflowPolicy);
+        writer.start();
+
+        return writer;
+    }
+
+    // 첫 이벤트를 기록 중인 워커를 막아 두고 버퍼에 count 개 채움 (event-0 은 워커, event-1 ~ event-count 는 버퍼)
+    private void fillBufferWhileWorkerBlocked(int count) throws InterruptedException {
+        logEventWriter.write(createEvent(0), null);
+
+        assertThat(appender.workerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        IntStream.rangeClosed(1, count).forEach(i -> logEventWriter.write(createEvent(i), null));
+    }
+
+    private LogEvent createEvent(int index) {
+        return LogEvent.success("event-" + index, "TestClass", "testMethod", "EMP0001", new Object[0], null, 0);
+    }
+
+    private List<String> eventNames() {
+        return appender.events.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .map(message -> message.substring(message.indexOf("event-"), message.indexOf('"', message.indexOf("event-"))))
+                .toList();
+    }
+
+    // 기록된 이벤트 수집 / 워커 스레드는 gate 가 열릴 때까지 대기 (호출 스레드 기록은 막지 않도록 동기화하지 않는 Appender 사용)
+    static class CapturingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+        final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch workerEntered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            if (Thread.currentThread().getName().equals(WORKER_THREAD_NAME)) {
+                workerEntered.countDown();
+
+                try {
+                    gate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.manager.taskmanager.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.util.Duration;
+import com.manager.taskmanager.global.log.logstash.DiskSpillTcpAppenderListener;
+import net.logstash.logback.appender.LogstashTcpSocketAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class LogstashTcpAppenderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private LogstashTcpSocketAppender appender;
+    private FakeLogstash fakeLogstash;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (appender != null) {
+            appender.stop();
+        }
+
+        if (fakeLogstash != null) {
+            fakeLogstash.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Logstash 직접 전송 테스트")
+    class Logstash_직접_전송_테스트 {
+
+        @Test
+        @DisplayName("Logstash 가 내려가 있던 동안의 로그는 디스크에 보관 후 재연결 시 유실 없이 전송")
+        void whenLogstashDownThenUp_thenNoEventLost() throws IOException {
+            int port = findFreePort();
+            Path spillFile = tempDir.resolve("spill.log");
+            DiskSpillTcpAppenderListener listener = createListener(spillFile, 10L * 1024 * 1024);
+
+            appender = createAppender(port, 64, listener);
+
+            IntStream.range(0, 200).forEach(i -> appender.doAppend(createEvent("message-" + i)));
+
+            await().until(() -> countLines(spillFile) == 200);
+
+            fakeLogstash = new FakeLogstash(port);
+
+            await().until(() -> fakeLogstash.lines.size() >= 200);
+
+            appender.doAppend(createEvent("message-200"));
+
+            await().until(() -> fakeLogstash.lines.size() == 201);
+
+            assertThat(IntStream.rangeClosed(0, 200))
+                    .allMatch(i -> fakeLogstash.lines.stream().anyMatch(line -> line.contains("\"message\":\"message-" + i + "\"")));
+            assertThat(listener.getDroppedCount()).isZero();
+            assertThat(spillFile).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("보관 파일 크기 상한을 넘는 로그는 버리고 건수 기록")
+        void whenSpillFileFull_thenDropAndCount() {
+            int port = findFreePort();
+            Path spillFile = tempDir.resolve("spill.log");
+            long maxSpillSize = 16 * 1024;
+            DiskSpillTcpAppenderListener listener = createListener(spillFile, maxSpillSize);
+
+            appender = createAppender(port, 64, listener);
+
+            IntStream.range(0, 1000).forEach(i -> appender.doAppend(createEvent("message-" + i)));
+
+            await().until(() -> countLines(spillFile) + listener.getDroppedCount() == 1000);
+
+            assertThat(listener.getDroppedCount()).isPositive();
+            assertThat(spillFile.toFile().length()).isLessThanOrEqualTo(maxSpillSize);
+        }
+    }
+
+    private DiskSpillTcpAppenderListener createListener(Path spillFile, long maxSpillSize) {
+        DiskSpillTcpAppenderListener listener = new DiskSpillTcpAppenderListener();
+        listener.setSpillFile(spillFile.toString());
+        listener.setMaxSpillSize(maxSpillSize);
+
+        return listener;
+    }
+
+    private LogstashTcpSocketAppender createAppender(int port, int ringBufferSize, DiskSpillTcpAppenderListener listener) {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(loggerContext);
+        encoder.start();
+
+        LogstashTcpSocketAppender tcpAppender = new LogstashTcpSocketAppender();
+        tcpAppender.setContext(loggerContext);
+        tcpAppender.addDestination("localhost:" + port);
+        tcpAppender.setRingBufferSize(ringBufferSize);
+        tcpAppender.setAppendTimeout(Duration.buildBySeconds(5));
+        tcpAppender.setReconnectionDelay(Duration.buildByMilliseconds(100));
+        tcpAppender.setEncoder(encoder);
+        tcpAppender.addListener(listener);
+        tcpAppender.start();
+
+        return tcpAppender;
+    }
+
+    private LoggingEvent createEvent(String message) {
+        return new LoggingEvent(getClass().getName(), loggerContext.getLogger("test"), Level.INFO, message, null, null);
+    }
+
+    private long countLines(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.count();
+        }
+    }
+
+    private int findFreePort() {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 받은 줄(json_lines)을 모아두는 가짜 Logstash TCP 입력
+    static class FakeLogstash implements AutoCloseable {
+
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        private final ServerSocket serverSocket;
+
+        FakeLogstash(int port) throws IOException {
+            serverSocket = new ServerSocket(port);
+
+            Thread acceptor = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket socket = serverSocket.accept();
+                        Thread reader = new Thread(() -> read(socket));
+                        reader.setDaemon(true);
+                        reader.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private void read(Socket socket) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
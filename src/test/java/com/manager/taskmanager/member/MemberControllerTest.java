@@ -53,7 +53,7 @@ class MemberControllerTest {
             MemberListDto tester2 = new MemberListDto(1L, "테스터2", Position.STAFF.name(), "hr");
             List<MemberListDto> memberListDtoList = List.of(tester1, tester2);
 
-            given(memberService.getMemberList("hr", "", false)).willReturn(memberListDtoList);
+            given(memberService.getMemberList("hr", "", null, false)).willReturn(memberListDtoList);
             mockMvc.perform(get("/api/members")
                             .param("departmentName", "hr"))
                     .andExpect(status().isOk())
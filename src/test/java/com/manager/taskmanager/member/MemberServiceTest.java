@@ -452,10 +452,10 @@ class MemberServiceTest {
             memberService.deleteMember(dvMember.getId());
             memberRepository.flush();
 
-            List<MemberListDto> memberList1 = memberService.getMemberList("", "", false);
+            List<MemberListDto> memberList1 = memberService.getMemberList("", "", null, false);
             assertThat(memberList1.size()).isEqualTo(1);
 
-            List<MemberListDto> memberList2 = memberService.getMemberList(hr.getDepartmentName(), "", false);
+            List<MemberListDto> memberList2 = memberService.getMemberList(hr.getDepartmentName(), "", null, false);
             assertThat(memberList2.size()).isEqualTo(1);
         }
 
@@ -465,10 +465,10 @@ class MemberServiceTest {
             memberService.deleteMember(dvMember.getId());
             memberRepository.flush();
 
-            List<MemberListDto> memberList1 = memberService.getMemberList("", "", true);
+            List<MemberListDto> memberList1 = memberService.getMemberList("", "", null, true);
             assertThat(memberList1.size()).isEqualTo(2);
 
-            List<MemberListDto> memberList2 = memberService.getMemberList(hr.getDepartmentName(), "", true);
+            List<MemberListDto> memberList2 = memberService.getMemberList(hr.getDepartmentName(), "", null, true);
             assertThat(memberList2.size()).isEqualTo(1);
         }
     }
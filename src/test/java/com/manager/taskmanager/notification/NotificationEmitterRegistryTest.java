@@ -0,0 +1,69 @@
+package com.manager.taskmanager.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class NotificationEmitterRegistryTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private NotificationEmitterRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new NotificationEmitterRegistry(
+                mock(NotificationService.class),
+                mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(30),
+                2
+        );
+    }
+
+    @Nested
+    @DisplayName("알림 구독 테스트")
+    class 알림_구독_테스트 {
+
+        @Test
+        @DisplayName("회원별 최대 연결 수 초과 시 가장 오래된 연결을 종료하고 바로 제거")
+        void whenExceedMaxPerMember_thenOldestClosedAndRemoved() {
+            SseEmitter first = registry.subscribe(MEMBER_ID);
+            SseEmitter second = registry.subscribe(MEMBER_ID);
+            SseEmitter third = registry.subscribe(MEMBER_ID);
+
+            assertThat(registry.getConnectionCount()).isEqualTo(2);
+
+            assertThatThrownBy(() -> first.send(SseEmitter.event().comment("ping")))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> second.send(SseEmitter.event().comment("ping"))).doesNotThrowAnyException();
+            assertThatCode(() -> third.send(SseEmitter.event().comment("ping"))).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("다른 회원의 연결은 최대 연결 수에 포함되지 않음")
+        void whenOtherMemberSubscribe_thenNotEvicted() {
+            SseEmitter first = registry.subscribe(MEMBER_ID);
+            registry.subscribe(MEMBER_ID);
+            registry.subscribe(2L);
+            registry.subscribe(2L);
+
+            assertThat(registry.getConnectionCount()).isEqualTo(4);
+            assertThatCode(() -> first.send(SseEmitter.event().comment("ping"))).doesNotThrowAnyException();
+        }
+    }
+}
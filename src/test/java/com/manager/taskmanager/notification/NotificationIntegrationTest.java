@@ -26,10 +26,10 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -71,6 +71,58 @@ class NotificationIntegrationTest {
         notification4 = testDataFactory.createNotification(member, "메시지4", today.minusDays(13));
     }
 
+    @Nested
+    @DisplayName("알림 구독 API")
+    class 알림_구독_API_테스트 {
+
+        @Test
+        @DisplayName("알림 구독 시 SSE 연결 및 연결 이벤트 전송")
+        void whenSubscribe_thenEventStreamIsOpened() throws Exception {
+            testDataFactory.setAuthentication(member, Role.MEMBER);
+
+            mockMvc.perform(get("/api/notifications/subscribe")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted())
+                    .andExpect(content().string(containsString("event:connect")));
+        }
+    }
+
+    @Nested
+    @DisplayName("읽지 않은 알림 수 조회 API")
+    class 읽지_않은_알림_수_조회_API_테스트 {
+
+        @Test
+        @DisplayName("읽지 않은 알림 수 조회 정상")
+        void whenValidLogin_thenReturnUnreadCount() throws Exception {
+            testDataFactory.setAuthentication(member, Role.MEMBER);
+
+            mockMvc.perform(get("/api/notifications/unread-count"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.unreadCount").value(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("알림 전체 읽음 처리 API")
+    class 알림_전체_읽음_처리_API_테스트 {
+
+        @Test
+        @DisplayName("알림 전체 읽음 처리 정상")
+        void whenValidLogin_thenAllNotificationsAreRead() throws Exception {
+            testDataFactory.setAuthentication(member, Role.MEMBER);
+
+            mockMvc.perform(patch("/api/notifications/read-all"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.affectedCount").value(4));
+
+            assertThat(notificationRepository.countUnread(member.getId())).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("알림 목록 조회 API")
     class 알림_목록_조회_API_테스트 {
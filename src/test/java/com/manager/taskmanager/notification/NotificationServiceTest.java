@@ -8,6 +8,8 @@ import com.manager.taskmanager.global.error.ErrorCode;
 import com.manager.taskmanager.member.entity.Member;
 import com.manager.taskmanager.notification.dto.NotificationDto;
 import com.manager.taskmanager.notification.dto.NotificationIdListDto;
+import com.manager.taskmanager.notification.dto.NotificationSliceDto;
+import com.manager.taskmanager.notification.dto.NotificationUpdateResultDto;
 import com.manager.taskmanager.notification.entity.Notification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -77,6 +80,73 @@ class NotificationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("알림 목록 페이지 조회 Service")
+    class 알림_목록_페이지_조회_서비스_테스트 {
+
+        @Test
+        @DisplayName("커서로 다음 페이지 조회 시 최신순으로 이어서 조회")
+        void whenCursorGiven_thenReturnNextSlice() {
+            LocalDate today = LocalDate.now();
+
+            for (int i = 1; i <= 5; i++) {
+                testDataFactory.createNotification(member, "메시지" + i, today.minusDays(i));
+            }
+
+            NotificationSliceDto first = notificationService.getNotificationSlice(member.getId(), null, 2);
+            NotificationSliceDto second = notificationService.getNotificationSlice(member.getId(), first.getNextCursor(), 2);
+            NotificationSliceDto last = notificationService.getNotificationSlice(member.getId(), second.getNextCursor(), 2);
+
+            assertThat(first.getNotificationList())
+                    .extracting(NotificationDto.NotificationInfo::getMessage)
+                    .containsExactly("메시지1", "메시지2");
+            assertThat(first.isHasNext()).isTrue();
+
+            assertThat(second.getNotificationList())
+                    .extracting(NotificationDto.NotificationInfo::getMessage)
+                    .containsExactly("메시지3", "메시지4");
+
+            assertThat(last.getNotificationList())
+                    .extracting(NotificationDto.NotificationInfo::getMessage)
+                    .containsExactly("메시지5");
+            assertThat(last.isHasNext()).isFalse();
+            assertThat(last.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 커서 시 400 반환")
+        void whenInvalidCursor_thenReturnBadRequest() {
+            assertThatThrownBy(() -> notificationService.getNotificationSlice(member.getId(), "invalid-cursor", 2))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException exception = (CustomException) ex;
+                        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+                        assertThat(exception.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("날짜별 알림 조회 Service")
+    class 날짜별_알림_조회_서비스_테스트 {
+
+        @Test
+        @DisplayName("회원별 해당 날짜 알림만 조회")
+        void whenMemberIdsGiven_thenReturnNotificationsOfDate() {
+            LocalDate today = LocalDate.now();
+
+            testDataFactory.createNotification(member, "오늘 알림", today);
+            testDataFactory.createNotification(member, "지난 알림", today.minusDays(1));
+            testDataFactory.createNotification(leader, "리더 알림", today);
+
+            Map<Long, NotificationDto.NotificationInfo> notifications =
+                    notificationService.getNotificationsByDate(List.of(member.getId(), manager.getId()), today);
+
+            assertThat(notifications).containsOnlyKeys(member.getId());
+            assertThat(notifications.get(member.getId()).getMessage()).isEqualTo("오늘 알림");
+        }
+    }
+
     @Nested
     @DisplayName("알림 단건 읽음 처리 Service")
     class 알림_단건_읽음_처리_서비스_테스트 {
@@ -174,6 +244,27 @@ class NotificationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("알림 전체 읽음 처리 Service")
+    class 알림_전체_읽음_처리_서비스_테스트 {
+
+        @Test
+        @DisplayName("알림 전체 읽음 처리 시 본인의 읽지 않은 알림만 처리")
+        void whenReadAll_thenOnlyOwnUnreadNotificationsAreRead() {
+            LocalDate today = LocalDate.now();
+            testDataFactory.createNotification(member, "메시지1", today.minusDays(10));
+            testDataFactory.createNotification(member, "메시지2", today.minusDays(11));
+            testDataFactory.createReadNotification(member, "메시지3", today.minusDays(12));
+            Notification leaderNotification = testDataFactory.createNotification(leader, "메시지4", today.minusDays(10));
+
+            NotificationUpdateResultDto result = notificationService.readAllNotifications(member.getId());
+
+            assertThat(result.getAffectedCount()).isEqualTo(2);
+            assertThat(notificationRepository.countUnread(member.getId())).isZero();
+            assertThat(notificationRepository.findById(leaderNotification.getId()).orElseThrow().isRead()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("알림 단건 삭제 Service")
     class 알림_단건_삭제_서비스_테스트 {
@@ -263,5 +354,27 @@ class NotificationServiceTest {
                         assertThat(exception.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
                     });
         }
+
+        @Test
+        @DisplayName("다른 회원의 알림 포함 시 404 반환")
+        void whenOtherMembersNotification_thenReturnNotFound() {
+            LocalDate today = LocalDate.now();
+            Notification notification = testDataFactory.createNotification(member, "메시지1", today.minusDays(10));
+            Notification leaderNotification = testDataFactory.createNotification(leader, "메시지2", today.minusDays(10));
+
+            NotificationIdListDto notificationIdListDto = new NotificationIdListDto(List.of(
+                    new NotificationIdListDto.NotificationIdDto(notification.getId()),
+                    new NotificationIdListDto.NotificationIdDto(leaderNotification.getId())
+            ));
+
+            assertThatThrownBy(() -> notificationService.deleteNotifications(member.getId(), notificationIdListDto))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException exception = (CustomException) ex;
+                        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOTIFICATION_NOT_FOUND);
+                    });
+
+            assertThat(notificationRepository.findById(notification.getId())).isPresent();
+        }
     }
 }
\ No newline at end of file
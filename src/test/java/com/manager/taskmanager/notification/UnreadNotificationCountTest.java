@@ -0,0 +1,116 @@
+package com.manager.taskmanager.notification;
+
+import com.manager.taskmanager.config.DBContainerExtension;
+import com.manager.taskmanager.config.TestDataFactory;
+import com.manager.taskmanager.department.entity.Department;
+import com.manager.taskmanager.global.batch.notification.SaveNotificationWriter;
+import com.manager.taskmanager.global.batch.notification.UnreadNotificationReconcileScheduler;
+import com.manager.taskmanager.member.entity.Member;
+import com.manager.taskmanager.notification.dto.NotificationIdListDto;
+import com.manager.taskmanager.notification.entity.Notification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 카운터는 커밋 이후에 반영되므로 트랜잭션 롤백 없이 실행 후 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@ExtendWith(DBContainerExtension.class)
+class UnreadNotificationCountTest {
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UnreadNotificationReconcileScheduler reconcileScheduler;
+
+    @Autowired
+    private SaveNotificationWriter saveNotificationWriter;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Member member;
+    private Notification notification1;
+    private Notification notification2;
+
+    @BeforeEach
+    void setUp() {
+        Department department = testDataFactory.createDepartment();
+        member = testDataFactory.createMember(department);
+
+        LocalDate today = LocalDate.now();
+
+        notification1 = testDataFactory.createNotification(member, "메시지1", today.minusDays(1));
+        notification2 = testDataFactory.createNotification(member, "메시지2", today.minusDays(2));
+        testDataFactory.createNotification(member, "메시지3", today.minusDays(3));
+        testDataFactory.createReadNotification(member, "메시지4", today.minusDays(4));
+    }
+
+    @AfterEach
+    void clearDB() {
+        redisTemplate.delete(UnreadNotificationCounter.key(member.getId()));
+        testDataFactory.clearAllData();
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 DB 기준으로 카운터 생성")
+    void whenFirstRead_thenCounterIsLoadedFromDB() {
+        assertThat(notificationService.getUnreadCount(member.getId()).getUnreadCount()).isEqualTo(3L);
+        assertThat(redisTemplate.opsForValue().get(UnreadNotificationCounter.key(member.getId()))).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("읽음 / 삭제 처리 시 카운터 감소")
+    void whenReadOrDeleted_thenCounterDecreased() {
+        notificationService.getUnreadCount(member.getId());
+
+        notificationService.readNotification(member.getId(), notification1.getId());
+        notificationService.readNotification(member.getId(), notification1.getId());
+        notificationService.deleteNotifications(member.getId(), new NotificationIdListDto(List.of(
+                new NotificationIdListDto.NotificationIdDto(notification2.getId())
+        )));
+
+        assertThat(notificationService.getUnreadCount(member.getId()).getUnreadCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("알림 저장 배치 시 카운터 증가 (이미 저장된 알림은 다시 증가하지 않음)")
+    void whenNotificationSaved_thenCounterIncreased() throws Exception {
+        notificationService.getUnreadCount(member.getId());
+
+        saveNotificationWriter.write(Chunk.of(Notification.createNotification(member, "오늘 마감 알림")));
+
+        assertThat(redisTemplate.opsForValue().get(UnreadNotificationCounter.key(member.getId()))).isEqualTo("4");
+
+        saveNotificationWriter.write(Chunk.of(Notification.createNotification(member, "오늘 마감 알림")));
+
+        assertThat(redisTemplate.opsForValue().get(UnreadNotificationCounter.key(member.getId()))).isEqualTo("4");
+        assertThat(notificationService.getUnreadCount(member.getId()).getUnreadCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("카운터가 어긋난 경우 재동기화 시 DB 기준으로 보정")
+    void whenCounterDrifted_thenReconciled() {
+        redisTemplate.opsForValue().set(UnreadNotificationCounter.key(member.getId()), "10");
+
+        reconcileScheduler.run();
+
+        assertThat(notificationService.getUnreadCount(member.getId()).getUnreadCount()).isEqualTo(3L);
+    }
+}
@@ -132,10 +132,12 @@ class ProjectControllerTest {
             ProjectListDto projectListDto = new ProjectListDto(
                     List.of(
                             new ProjectListDto.ProjectInfo(
-                                    "프로젝트 이름1", LocalDate.now(), LocalDate.now().plusWeeks(5), "PROGRESS", null),
+                                    1L, "프로젝트 이름1", LocalDate.now(), LocalDate.now().plusWeeks(5), "PROGRESS", null),
                             new ProjectListDto.ProjectInfo(
-                                    "프로젝트 이름2", LocalDate.now(), LocalDate.now().plusWeeks(5), "CANCELED", LocalDateTime.now())
-                    )
+                                    2L, "프로젝트 이름2", LocalDate.now(), LocalDate.now().plusWeeks(5), "CANCELED", LocalDateTime.now())
+                    ),
+                    false,
+                    2L
             );
 
             given(projectService.getProjectList(any(ProjectSearchCondition.class))).willReturn(projectListDto);
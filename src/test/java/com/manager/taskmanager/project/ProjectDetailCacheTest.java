@@ -0,0 +1,130 @@
+package com.manager.taskmanager.project;
+
+import com.manager.taskmanager.config.DBContainerExtension;
+import com.manager.taskmanager.config.TestDataFactory;
+import com.manager.taskmanager.department.entity.Department;
+import com.manager.taskmanager.global.config.cache.TwoLevelCacheManager;
+import com.manager.taskmanager.member.entity.Member;
+import com.manager.taskmanager.project.dto.ProjectDetailDto;
+import com.manager.taskmanager.project.entity.Project;
+import com.manager.taskmanager.projectmember.ProjectMemberService;
+import com.manager.taskmanager.projectmember.dto.ProjectMemberUpdateDto;
+import com.manager.taskmanager.projectmember.entity.ProjectRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시는 커밋 이후에 반영되므로 트랜잭션 롤백 없이 실행 후 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@ExtendWith(DBContainerExtension.class)
+class ProjectDetailCacheTest {
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private ProjectDetailCacheVersion projectDetailCacheVersion;
+
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
+    private Member leader;
+    private Member member;
+    private Project project;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        Department department = testDataFactory.createDepartment();
+        leader = testDataFactory.createLeader(department);
+        member = testDataFactory.createMember(department);
+        project = testDataFactory.createProject(leader, member);
+        cache = cacheManager.getCache("projectDetail");
+    }
+
+    @AfterEach
+    void clearDB() {
+        cache.clear();
+        testDataFactory.clearAllData();
+    }
+
+    @Test
+    @DisplayName("프로젝트 상세 조회 결과 캐시 (Redis 역직렬화 포함)")
+    void whenGetProjectDetail_thenCached() {
+        ProjectDetailDto projectDetail = projectService.getProjectDetail(project.getId());
+
+        // 로컬 캐시만 제거하여 Redis 에서 다시 읽도록 함
+        cacheManager.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("other-node|evict|projectDetail|" + cacheKey()).getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        ProjectDetailDto cached = cache.get(cacheKey(), ProjectDetailDto.class);
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.getStartDate()).isEqualTo(projectDetail.getStartDate());
+        assertThat(cached.getProjectMembers())
+                .extracting("memberId")
+                .containsExactly(leader.getId(), member.getId());
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버 변경 시 캐시 무효화")
+    void whenProjectMemberUpdated_thenCacheEvicted() {
+        projectService.getProjectDetail(project.getId());
+
+        assertThat(cache.get(cacheKey())).isNotNull();
+
+        projectMemberService.updateProjectMember(leader.getId(), project.getId(), member.getId(),
+                new ProjectMemberUpdateDto(ProjectRole.MANAGER.name(), project.getStartDate(), project.getEndDate()));
+
+        assertThat(cache.get(cacheKey())).isNull();
+        assertThat(projectService.getProjectDetail(project.getId()).getProjectMembers())
+                .filteredOn(memberInfo -> memberInfo.getMemberId().equals(member.getId()))
+                .extracting("projectRole")
+                .containsExactly(ProjectRole.MANAGER.getKorean());
+    }
+
+    @Test
+    @DisplayName("변경 전에 조회를 시작한 요청이 변경 후 이전 데이터를 저장해도 이후 조회에는 반영되지 않음")
+    void whenStaleDetailPutAfterUpdate_thenNotReturned() {
+        // 변경 전 조회 요청이 계산한 캐시 키와 읽은 데이터
+        String staleKey = cacheKey();
+        ProjectDetailDto staleDetail = projectService.getProjectDetail(project.getId());
+        cache.evict(staleKey);
+
+        projectMemberService.updateProjectMember(leader.getId(), project.getId(), member.getId(),
+                new ProjectMemberUpdateDto(ProjectRole.MANAGER.name(), project.getStartDate(), project.getEndDate()));
+
+        // 변경 커밋 이후에 이전 데이터가 늦게 저장됨
+        cache.put(staleKey, staleDetail);
+
+        assertThat(cacheKey()).isNotEqualTo(staleKey);
+        assertThat(projectService.getProjectDetail(project.getId()).getProjectMembers())
+                .filteredOn(memberInfo -> memberInfo.getMemberId().equals(member.getId()))
+                .extracting("projectRole")
+                .containsExactly(ProjectRole.MANAGER.getKorean());
+    }
+
+    private String cacheKey() {
+        return project.getId() + ":" + projectDetailCacheVersion.get(project.getId());
+    }
+}
@@ -230,6 +230,44 @@ class ProjectServiceTest {
 
             assertThat(projectList.getProjectList()).isEmpty();
         }
+
+        @Test
+        @DisplayName("프로젝트 목록 정상 조회 - 일치하는 멤버 없음")
+        void whenNoMatchedMemberName_thenReturnEmptyList() {
+            ProjectSearchCondition condition = new ProjectSearchCondition(null, "nobody", null);
+            ProjectListDto projectList = projectService.getProjectList(condition);
+
+            assertThat(projectList.getProjectList()).isEmpty();
+            assertThat(projectList.isHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("프로젝트 목록 정상 조회 - 커서 페이징")
+        void whenCursorGiven_thenReturnNextPage() {
+            projectService.createProject(leader.getId(), new ProjectRegisterDto(
+                    "taxi-project", "taxi application", LocalDate.now().plusDays(5),
+                    LocalDate.now().plusWeeks(10), ProjectStatus.PENDING.name()
+            ));
+
+            ProjectSearchCondition condition = new ProjectSearchCondition(null, "leader", null);
+            condition.setSize(1);
+
+            ProjectListDto firstPage = projectService.getProjectList(condition);
+
+            assertThat(firstPage.isHasNext()).isTrue();
+            assertThat(firstPage.getProjectList())
+                    .extracting("projectName")
+                    .containsExactly("project");
+
+            condition.setLastProjectId(firstPage.getLastProjectId());
+
+            ProjectListDto secondPage = projectService.getProjectList(condition);
+
+            assertThat(secondPage.isHasNext()).isFalse();
+            assertThat(secondPage.getProjectList())
+                    .extracting("projectName")
+                    .containsExactly("taxi-project");
+        }
     }
 
     @Nested
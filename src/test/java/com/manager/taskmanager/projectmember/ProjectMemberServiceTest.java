@@ -53,6 +53,9 @@ class ProjectMemberServiceTest {
     @Autowired
     private ProjectMemberService projectMemberService;
 
+    @Autowired
+    private ProjectMemberUtilService pmUtilService;
+
     Department department;
     Member member;
     Member leader;
@@ -247,6 +250,64 @@ class ProjectMemberServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("프로젝트 멤버 권한 조회")
+    class 프로젝트_멤버_권한_조회_테스트 {
+
+        @Test
+        @DisplayName("같은 트랜잭션 내 반복 조회 시 같은 프로젝트 멤버 반환")
+        void whenRepeatedInSameTransaction_thenSameInstanceIsReturned() {
+            ProjectMember first = pmUtilService.getProjectMemberAndCheckLeader(leader.getId(), project.getId());
+            ProjectMember second = pmUtilService.getProjectMember(leader.getId(), project.getId());
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("같은 트랜잭션에서 삭제된 프로젝트 멤버 조회 시 404 반환")
+        void whenDeletedInSameTransaction_thenReturnNotFound() {
+            ProjectMember projectAddMember = ProjectMember.createMember(
+                    member, ProjectRole.MEMBER, LocalDate.now().plusDays(5), LocalDate.now().plusWeeks(3));
+
+            project.addProjectMember(projectAddMember);
+
+            pmUtilService.getProjectMember(member.getId(), project.getId());
+
+            projectMemberService.deleteProjectMember(leader.getId(), project.getId(), member.getId());
+
+            assertThatThrownBy(() -> pmUtilService.getProjectMember(member.getId(), project.getId()))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException exception = (CustomException) ex;
+
+                        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PROJECT_MEMBER_NOT_FOUND);
+                    });
+        }
+
+        @Test
+        @DisplayName("같은 트랜잭션에서 역할 변경 시 변경된 역할로 권한 체크")
+        void whenRoleChangedInSameTransaction_thenChangedRoleIsChecked() {
+            ProjectMember projectAddMember = ProjectMember.createMember(
+                    member, ProjectRole.MEMBER, LocalDate.now().plusDays(5), LocalDate.now().plusWeeks(3));
+
+            project.addProjectMember(projectAddMember);
+
+            assertThatThrownBy(() -> pmUtilService.getProjectMemberAndCheckLeader(member.getId(), project.getId()))
+                    .isInstanceOf(CustomException.class);
+
+            ProjectMemberUpdateDto projectMemberUpdateDto = new ProjectMemberUpdateDto(
+                    ProjectRole.LEADER.name(), LocalDate.now().plusDays(2), LocalDate.now().plusWeeks(1)
+            );
+
+            projectMemberService.updateProjectMember(
+                    leader.getId(), project.getId(), member.getId(), projectMemberUpdateDto
+            );
+
+            assertThat(pmUtilService.getProjectMemberAndCheckLeader(member.getId(), project.getId()))
+                    .isSameAs(projectAddMember);
+        }
+    }
+
     private ProjectMember findByProjectIdAndMemberId(Long projectId, Long memberId) {
         return projectMemberRepository.findAll().stream()
                 .filter(pm -> pm.getMember().getId().equals(memberId))
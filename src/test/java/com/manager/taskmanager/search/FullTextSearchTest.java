@@ -0,0 +1,164 @@
+package com.manager.taskmanager.search;
+
+import com.manager.taskmanager.config.DBContainerExtension;
+import com.manager.taskmanager.config.TestDataFactory;
+import com.manager.taskmanager.department.entity.Department;
+import com.manager.taskmanager.global.error.CustomException;
+import com.manager.taskmanager.global.error.ErrorCode;
+import com.manager.taskmanager.global.search.SearchMode;
+import com.manager.taskmanager.member.MemberService;
+import com.manager.taskmanager.member.dto.MemberListDto;
+import com.manager.taskmanager.member.entity.Member;
+import com.manager.taskmanager.project.ProjectService;
+import com.manager.taskmanager.project.dto.ProjectListDto;
+import com.manager.taskmanager.project.dto.ProjectSearchCondition;
+import com.manager.taskmanager.project.entity.Project;
+import com.manager.taskmanager.task.TaskService;
+import com.manager.taskmanager.task.dto.AddTaskDto;
+import com.manager.taskmanager.task.dto.TaskListDto;
+import com.manager.taskmanager.task.dto.TaskSearchCondition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// FULLTEXT 인덱스는 커밋된 데이터만 검색하므로 트랜잭션 롤백 없이 실행 후 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@ExtendWith(DBContainerExtension.class)
+class FullTextSearchTest {
+
+    private static final String FULLTEXT = SearchMode.FULLTEXT.name();
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private MemberService memberService;
+
+    private Member leader;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Department department = testDataFactory.createDepartment();
+        leader = testDataFactory.createLeader(department);
+        member = testDataFactory.createMember(department);
+        Project project = testDataFactory.createProject(leader, member);
+        testDataFactory.createTask(member, project);
+
+        taskService.addTask(member.getId(), project.getId(), new AddTaskDto(
+                "주간 보고서 작성", "task-description", LocalDate.now().plusWeeks(5),
+                LocalDate.now().plusWeeks(6), "PROGRESS"
+        ));
+    }
+
+    @AfterEach
+    void clearDB() {
+        testDataFactory.clearAllData();
+    }
+
+    @Nested
+    @DisplayName("업무 FULLTEXT 검색")
+    class 업무_FULLTEXT_검색_테스트 {
+
+        @Test
+        @DisplayName("한글 업무명 부분 검색")
+        void whenKoreanTaskName_thenReturnMatchedTask() {
+            TaskSearchCondition condition = new TaskSearchCondition(null, "보고서", null);
+            condition.setSearchMode(FULLTEXT);
+
+            TaskListDto taskList = taskService.getTaskList(leader.getId(), true, condition);
+
+            assertThat(taskList.getTaskList())
+                    .extracting("taskName")
+                    .containsExactly("주간 보고서 작성");
+        }
+
+        @Test
+        @DisplayName("LIKE 검색과 동일한 결과")
+        void whenSameKeyword_thenSameResultAsLike() {
+            TaskSearchCondition like = new TaskSearchCondition("project", "task", null);
+            TaskSearchCondition fullText = new TaskSearchCondition("project", "task", null);
+            fullText.setSearchMode(FULLTEXT);
+
+            assertThat(taskService.getTaskList(leader.getId(), true, fullText).getTaskList())
+                    .extracting("taskName")
+                    .containsExactlyElementsOf(
+                            taskService.getTaskList(leader.getId(), true, like).getTaskList().stream()
+                                    .map(TaskListDto.TaskInfo::getTaskName)
+                                    .toList()
+                    );
+        }
+
+        @Test
+        @DisplayName("ngram 토큰보다 짧은 검색어는 LIKE 로 검색")
+        void whenSingleCharacterKeyword_thenFallbackToLike() {
+            TaskSearchCondition condition = new TaskSearchCondition(null, "서", null);
+            condition.setSearchMode(FULLTEXT);
+
+            TaskListDto taskList = taskService.getTaskList(leader.getId(), true, condition);
+
+            assertThat(taskList.getTaskList())
+                    .extracting("taskName")
+                    .containsExactly("주간 보고서 작성");
+        }
+
+        @Test
+        @DisplayName("검색 방식이 유효하지 않을 시 400 반환")
+        void whenInvalidSearchMode_thenReturnBadRequest() {
+            TaskSearchCondition condition = new TaskSearchCondition(null, "task", null);
+            condition.setSearchMode("lucene");
+
+            assertThatThrownBy(() -> taskService.getTaskList(leader.getId(), true, condition))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_SEARCH_MODE));
+        }
+    }
+
+    @Nested
+    @DisplayName("프로젝트 / 회원 FULLTEXT 검색")
+    class 프로젝트_회원_FULLTEXT_검색_테스트 {
+
+        @Test
+        @DisplayName("프로젝트명, 멤버 이름 검색")
+        void whenProjectAndMemberName_thenReturnProject() {
+            ProjectSearchCondition condition = new ProjectSearchCondition("proje", "lead", null);
+            condition.setSearchMode(FULLTEXT);
+
+            ProjectListDto projectList = projectService.getProjectList(condition);
+
+            assertThat(projectList.getProjectList())
+                    .extracting("projectName")
+                    .containsExactly("test-project");
+        }
+
+        @Test
+        @DisplayName("부서명, 회원 이름 검색")
+        void whenDepartmentAndMemberName_thenReturnMember() {
+            List<MemberListDto> memberList = memberService.getMemberList("PJ", "memb", FULLTEXT, false);
+
+            assertThat(memberList)
+                    .extracting("name")
+                    .containsExactly(member.getName());
+        }
+    }
+}
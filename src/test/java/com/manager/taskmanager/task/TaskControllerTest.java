@@ -3,6 +3,9 @@ package com.manager.taskmanager.task;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.manager.taskmanager.global.config.security.JwtTokenFilter;
 import com.manager.taskmanager.task.dto.AddTaskDto;
+import com.manager.taskmanager.task.dto.BulkAddTaskDto;
+import com.manager.taskmanager.task.dto.BulkDeleteTaskDto;
+import com.manager.taskmanager.task.dto.BulkTaskResultDto;
 import com.manager.taskmanager.task.dto.UpdateTaskDto;
 import com.manager.taskmanager.task.entity.TaskStatus;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +23,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -80,6 +85,76 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("업무 일괄 등록 Controller")
+    class 업무_일괄_등록_컨트롤러_테스트 {
+
+        @Test
+        @DisplayName("업무 일괄 등록 정상")
+        void whenValidInput_thenTasksAreAdded() throws Exception {
+            BulkAddTaskDto bulkAddTaskDto = new BulkAddTaskDto(List.of(
+                    new AddTaskDto("task1", "description", LocalDate.now(),
+                            LocalDate.now().plusDays(1), TaskStatus.PROGRESS.name()),
+                    new AddTaskDto("task2", "description", LocalDate.now(),
+                            LocalDate.now().plusDays(2), TaskStatus.PENDING.name())
+            ));
+
+            given(taskService.addTasks(anyLong(), anyLong(), any(BulkAddTaskDto.class)))
+                    .willReturn(new BulkTaskResultDto());
+
+            mockMvc.perform(post("/api/projects/{projectsId}/tasks/bulk", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(bulkAddTaskDto)))
+                    .andDo(print())
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @DisplayName("빈 목록 요청 시 400 반환")
+        void whenEmptyList_thenReturnBadRequest() throws Exception {
+            BulkAddTaskDto bulkAddTaskDto = new BulkAddTaskDto(List.of());
+
+            mockMvc.perform(post("/api/projects/{projectsId}/tasks/bulk", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(bulkAddTaskDto)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("항목 필수 값 누락 시 400 반환")
+        void whenItemMissingRequiredField_thenReturnBadRequest() throws Exception {
+            BulkAddTaskDto bulkAddTaskDto = new BulkAddTaskDto(List.of(
+                    new AddTaskDto(null, "description", LocalDate.now(),
+                            LocalDate.now().plusDays(1), TaskStatus.PROGRESS.name())
+            ));
+
+            mockMvc.perform(post("/api/projects/{projectsId}/tasks/bulk", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(bulkAddTaskDto)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("업무 일괄 삭제 Controller")
+    class 업무_일괄_삭제_컨트롤러_테스트 {
+
+        @Test
+        @DisplayName("업무 일괄 삭제 정상")
+        void whenValidInput_thenTasksAreDeleted() throws Exception {
+            given(taskService.deleteTasks(anyLong(), anyLong(), any(BulkDeleteTaskDto.class)))
+                    .willReturn(new BulkTaskResultDto());
+
+            mockMvc.perform(post("/api/projects/{projectsId}/tasks/bulk-delete", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BulkDeleteTaskDto(List.of(1L, 2L)))))
+                    .andDo(print())
+                    .andExpect(status().isOk());
+        }
+    }
+
     @Nested
     @DisplayName("업무 수정 Controller")
     class 업무_수정_컨트롤러_테스트 {
@@ -259,6 +259,66 @@ public class TaskIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("업무 목록 내보내기 테스트")
+    class 업무_목록_내보내기_테스트 {
+
+        @Test
+        @DisplayName("업무 목록 내보내기 정상 - Role.MANAGER")
+        void whenForManager_thenStreamTaskList() throws Exception {
+            testDataFactory.setAuthentication(leader, Role.MANAGER);
+
+            String content = mockMvc.perform(get("/api/tasks/export"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            assertThat(content.lines())
+                    .hasSize(1)
+                    .allMatch(line -> line.contains("\"taskName\":\"" + task.getTaskName() + "\""));
+        }
+
+        @Test
+        @DisplayName("관리자가 아닐 시 403 반환")
+        void whenForMember_thenReturnForbidden() throws Exception {
+            testDataFactory.setAuthentication(member, Role.MEMBER);
+
+            mockMvc.perform(get("/api/tasks/export"))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("마감일별 회원 업무 수 조회 테스트")
+    class 마감일별_회원_업무_수_조회_테스트 {
+
+        @Test
+        @DisplayName("마감일별 회원 업무 수 조회 정상")
+        void whenForManager_thenReturnDeadlineCounts() throws Exception {
+            testDataFactory.setAuthentication(leader, Role.MANAGER);
+
+            mockMvc.perform(get("/api/tasks/deadline-counts")
+                            .param("date", task.getEndDate().toString()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].memberId").value(member.getId()))
+                    .andExpect(jsonPath("$.data[0].taskCount").value(1));
+        }
+
+        @Test
+        @DisplayName("관리자가 아닐 시 403 반환")
+        void whenForMember_thenReturnForbidden() throws Exception {
+            testDataFactory.setAuthentication(member, Role.MEMBER);
+
+            mockMvc.perform(get("/api/tasks/deadline-counts"))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("업무 상세 조회 테스트")
     class 업무_상세_조회_테스트 {
@@ -22,9 +22,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @Transactional
@@ -264,6 +266,37 @@ class TaskServiceTest {
                     .extracting("taskName")
                     .containsExactlyInAnyOrder("task");
         }
+
+        @Test
+        @DisplayName("업무 목록 조회 정상 - 커서 페이징")
+        void whenCursorGiven_thenReturnNextPage() {
+            AddTaskDto taskDto = new AddTaskDto(
+                    "next-task", "task-description", LocalDate.now().plusWeeks(6),
+                    LocalDate.now().plusWeeks(7), "PROGRESS"
+            );
+
+            taskService.addTask(member.getId(), project.getId(), taskDto);
+
+            TaskSearchCondition condition = new TaskSearchCondition(null, null, null);
+            condition.setSize(1);
+
+            TaskListDto firstPage = taskService.getTaskList(member.getId(), false, condition);
+
+            assertThat(firstPage.isHasNext()).isTrue();
+            assertThat(firstPage.getTaskList())
+                    .extracting("taskName")
+                    .containsExactly("task");
+
+            condition.setLastEndDate(firstPage.getLastEndDate());
+            condition.setLastTaskId(firstPage.getLastTaskId());
+
+            TaskListDto secondPage = taskService.getTaskList(member.getId(), false, condition);
+
+            assertThat(secondPage.isHasNext()).isFalse();
+            assertThat(secondPage.getTaskList())
+                    .extracting("taskName")
+                    .containsExactly("next-task");
+        }
     }
 
     @Nested
@@ -319,6 +352,142 @@ class TaskServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("마감일별 업무 수 Service")
+    class 마감일별_업무_수_서비스_테스트 {
+
+        @Test
+        @DisplayName("업무 등록 시 종료일 업무 수 증가")
+        void whenTaskAdded_thenDeadlineCountIncreased() {
+            List<MemberDeadlineCountDto> deadlineCounts = taskService.getDeadlineCounts(task.getEndDate());
+
+            assertThat(deadlineCounts)
+                    .hasSize(1)
+                    .first()
+                    .satisfies(count -> {
+                        assertThat(count.getMemberId()).isEqualTo(member.getId());
+                        assertThat(count.getTaskCount()).isEqualTo(1L);
+                    });
+        }
+
+        @Test
+        @DisplayName("업무 종료일 수정 시 업무 수 이동")
+        void whenEndDateUpdated_thenDeadlineCountMoved() {
+            LocalDate beforeEndDate = task.getEndDate();
+            LocalDate afterEndDate = LocalDate.now().plusDays(5);
+
+            UpdateTaskDto updateTaskDto =
+                    new UpdateTaskDto("update-description", LocalDate.now(), afterEndDate, TaskStatus.PROGRESS.name());
+            taskService.updateTask(member.getId(), task.getId(), updateTaskDto);
+
+            assertThat(taskService.getDeadlineCounts(beforeEndDate)).isEmpty();
+            assertThat(taskService.getDeadlineCounts(afterEndDate))
+                    .extracting("taskCount")
+                    .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("업무 완료 / 삭제 시 업무 수 감소")
+        void whenTaskCompletedOrDeleted_thenDeadlineCountDecreased() {
+            AddTaskDto taskDto = new AddTaskDto(
+                    "next-task", "task-description", LocalDate.now(),
+                    task.getEndDate(), "PENDING"
+            );
+            taskService.addTask(member.getId(), project.getId(), taskDto);
+
+            assertThat(taskService.getDeadlineCounts(task.getEndDate()))
+                    .extracting("taskCount")
+                    .containsExactly(2L);
+
+            UpdateTaskDto updateTaskDto =
+                    new UpdateTaskDto("update-description", task.getStartDate(), task.getEndDate(), TaskStatus.COMPLETED.name());
+            taskService.updateTask(member.getId(), task.getId(), updateTaskDto);
+            taskService.deleteTask(member.getId(), findByTaskName("next-task").getId());
+
+            assertThat(taskService.getDeadlineCounts(task.getEndDate())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("업무 일괄 처리 Service")
+    class 업무_일괄_처리_서비스_테스트 {
+
+        @Test
+        @DisplayName("업무 일괄 등록 시 유효한 항목만 등록하고 실패 항목 반환")
+        void whenBulkAddWithInvalidItem_thenValidItemsAreAdded() {
+            LocalDate endDate = LocalDate.now().plusDays(10);
+
+            BulkAddTaskDto dto = new BulkAddTaskDto(List.of(
+                    new AddTaskDto("bulk-task1", "task-description", LocalDate.now(), endDate, "PROGRESS"),
+                    new AddTaskDto("bulk-task2", "task-description", LocalDate.now().minusMonths(5), endDate, "PROGRESS"),
+                    new AddTaskDto("bulk-task3", "task-description", LocalDate.now(), endDate, "PENDING")
+            ));
+
+            BulkTaskResultDto result = taskService.addTasks(member.getId(), project.getId(), dto);
+
+            assertThat(result.getSuccessCount()).isEqualTo(2);
+            assertThat(result.getFailedList())
+                    .singleElement()
+                    .satisfies(failed -> {
+                        assertThat(failed.getIndex()).isEqualTo(1);
+                        assertThat(failed.getCode()).isEqualTo(ErrorCode.INVALID_PROJECT_DATE.getCode());
+                    });
+            assertThat(findByTaskName("bulk-task1").getProject().getId()).isEqualTo(project.getId());
+            assertThat(findByTaskName("bulk-task3").getId()).isIn(result.getSuccessTaskIdList());
+            assertThat(taskService.getDeadlineCounts(endDate))
+                    .extracting("taskCount")
+                    .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("업무 일괄 수정 시 없는 업무는 실패 항목으로 반환")
+        void whenBulkUpdateWithNotFoundTask_thenFailedItemIsReturned() {
+            LocalDate afterEndDate = LocalDate.now().plusDays(5);
+
+            BulkUpdateTaskDto dto = new BulkUpdateTaskDto(List.of(
+                    new BulkUpdateTaskDto.TaskUpdateDto(task.getId(), "update-description",
+                            LocalDate.now(), afterEndDate, TaskStatus.PROGRESS.name()),
+                    new BulkUpdateTaskDto.TaskUpdateDto(Long.MAX_VALUE, "update-description",
+                            LocalDate.now(), afterEndDate, TaskStatus.PROGRESS.name())
+            ));
+
+            BulkTaskResultDto result = taskService.updateTasks(member.getId(), project.getId(), dto);
+
+            assertThat(result.getSuccessTaskIdList()).containsExactly(task.getId());
+            assertThat(result.getFailedList())
+                    .extracting("taskId", "code")
+                    .containsExactly(tuple(Long.MAX_VALUE, ErrorCode.TASK_NOT_FOUND.getCode()));
+            assertThat(findByTaskName("task").getDescription()).isEqualTo("update-description");
+            assertThat(taskService.getDeadlineCounts(afterEndDate))
+                    .extracting("taskCount")
+                    .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("업무 일괄 삭제 시 자신의 업무가 아니면 실패 항목으로 반환")
+        void whenBulkDeleteNotTaskOwner_thenFailedItemIsReturned() {
+            BulkTaskResultDto result = taskService.deleteTasks(
+                    leader.getId(), project.getId(), new BulkDeleteTaskDto(List.of(task.getId())));
+
+            assertThat(result.getSuccessCount()).isZero();
+            assertThat(result.getFailedList())
+                    .extracting("code")
+                    .containsExactly(ErrorCode.NO_PERMISSION.getCode());
+            assertThat(findByTaskName("task").getDeletedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("업무 일괄 삭제 정상")
+        void whenBulkDelete_thenTasksAreDeleted() {
+            BulkTaskResultDto result = taskService.deleteTasks(
+                    member.getId(), project.getId(), new BulkDeleteTaskDto(List.of(task.getId())));
+
+            assertThat(result.getSuccessTaskIdList()).containsExactly(task.getId());
+            assertThat(findByTaskName("task").getTaskStatus()).isEqualTo(TaskStatus.CANCELED);
+            assertThat(taskService.getDeadlineCounts(task.getEndDate())).isEmpty();
+        }
+    }
+
     private Task findByTaskName(String taskName) {
         return taskRepository.findAll().stream()
                 .filter(task -> task.getTaskName().equalsIgnoreCase(taskName))